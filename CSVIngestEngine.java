@@ -0,0 +1,448 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.function.Consumer;
+
+/**
+ * CSVIngestEngine - memory-mapped loader for the teams CSV format
+ * Scans the mapped bytes for delimiters and parses numbers and dates in place,
+ * so only the text fields kept by Team/Competitor are turned into Strings.
+ * Row handling matches the BufferedReader loader: first line is the header,
+ * fields are trimmed and rows with fewer than 8 fields are skipped.
+ */
+public class CSVIngestEngine {
+    // Largest window mapped at once (FileChannel.map is limited to 2GB)
+    static final long MAX_WINDOW = 1L << 30;
+
+    private static final int MIN_FIELDS = 8;
+
+    private final StringPool pool;
+    private long bytesConsumed;
+    // End of the line currently being parsed, so callers can skip a bad row
+    private int currentLineEnd;
+
+    // Reused per row: field boundaries and a scratch buffer for string decoding
+    private int[] fieldStart = new int[16];
+    private int[] fieldEnd = new int[16];
+    private byte[] scratch = new byte[256];
+
+    /**
+     * @param pool pool for university names, shared by every
+     *             engine that loads into the same TeamList
+     */
+    public CSVIngestEngine(StringPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Load every row of the file and pass each team to the sink in file order.
+     * Returns the number of teams produced.
+     */
+    public int load(String filename, Consumer<Team> sink) throws IOException {
+        Path path = Paths.get(filename);
+        int produced = 0;
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            long position = 0;
+            while (position < size) {
+                long windowEnd = Math.min(size, position + MAX_WINDOW);
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, position, windowEnd - position);
+                // Only hand complete lines to the parser unless this is the end of the file
+                int limit = windowEnd == size ? buffer.limit() : lastLineEnd(buffer);
+                if (limit <= 0) {
+                    throw new IOException("Line longer than " + MAX_WINDOW + " bytes at offset " + position);
+                }
+                produced += parseRange(buffer, 0, limit, position == 0, sink);
+                position += limit;
+            }
+            bytesConsumed = size;
+        }
+        return produced;
+    }
+
+    /**
+     * Parse the file on a fork-join pool. The file is cut into byte ranges that
+     * start on line boundaries, each range is parsed into its own buffer, and the
+     * chunks are returned in file order so the caller can merge them.
+     */
+    public static List<Chunk> loadParallel(String filename, ForkJoinPool pool, StringPool strings) throws IOException {
+        Path path = Paths.get(filename);
+        try (FileChannel channel = FileChannel.open(path, StandardOpenOption.READ)) {
+            long size = channel.size();
+            int parallelism = pool.getParallelism();
+            // A few chunks per worker evens out rows of different lengths
+            long chunkCount = Math.max(parallelism * 4L, size / MAX_WINDOW + 1);
+            long[] bounds = chunkBoundaries(channel, size, chunkCount);
+
+            List<ChunkTask> tasks = new ArrayList<>();
+            for (int i = 0; i + 1 < bounds.length; i++) {
+                tasks.add(new ChunkTask(channel, bounds[i], bounds[i + 1], strings));
+            }
+            pool.invoke(new RecursiveTask<Void>() {
+                @Override
+                protected Void compute() {
+                    invokeAll(tasks);
+                    return null;
+                }
+            });
+
+            List<Chunk> chunks = new ArrayList<>(tasks.size());
+            for (ChunkTask task : tasks) {
+                Chunk chunk = task.join();
+                if (chunk.ioError != null) {
+                    throw chunk.ioError;
+                }
+                chunks.add(chunk);
+            }
+            return chunks;
+        }
+    }
+
+    /**
+     * Split [0, size) into roughly equal ranges, moving each cut forward to the
+     * start of the next line. Returns the sorted cut positions including 0 and size.
+     */
+    static long[] chunkBoundaries(FileChannel channel, long size, long chunkCount) throws IOException {
+        long target = Math.max(1, size / chunkCount);
+        List<Long> cuts = new ArrayList<>();
+        cuts.add(0L);
+
+        java.nio.ByteBuffer probe = java.nio.ByteBuffer.allocate(4096);
+        long position = target;
+        while (position < size) {
+            long cut = nextLineStart(channel, position, size, probe);
+            if (cut >= size) {
+                break;
+            }
+            if (cut > cuts.get(cuts.size() - 1)) {
+                cuts.add(cut);
+            }
+            position = Math.max(cut, position) + target;
+        }
+        cuts.add(size);
+
+        long[] bounds = new long[cuts.size()];
+        for (int i = 0; i < bounds.length; i++) {
+            bounds[i] = cuts.get(i);
+        }
+        return bounds;
+    }
+
+    /**
+     * Offset of the first line that starts at or after position
+     */
+    private static long nextLineStart(FileChannel channel, long position, long size, java.nio.ByteBuffer probe)
+            throws IOException {
+        long offset = position - 1;
+        boolean afterCarriageReturn = false;
+        while (offset < size) {
+            probe.clear();
+            int read = channel.read(probe, offset);
+            if (read <= 0) {
+                return size;
+            }
+            for (int i = 0; i < read; i++) {
+                byte b = probe.get(i);
+                if (afterCarriageReturn) {
+                    // \r\n counts as one terminator
+                    return b == '\n' ? offset + i + 1 : offset + i;
+                }
+                if (b == '\n') {
+                    return offset + i + 1;
+                }
+                if (b == '\r') {
+                    afterCarriageReturn = true;
+                }
+            }
+            offset += read;
+        }
+        return size;
+    }
+
+    /**
+     * Teams parsed from one byte range of the file, in file order. If a row
+     * failed to parse, failure holds the error and teams holds the rows before it.
+     */
+    public static class Chunk {
+        final List<Team> teams = new ArrayList<>();
+        RuntimeException failure;
+        IOException ioError;
+
+        public List<Team> getTeams() {
+            return teams;
+        }
+
+        public RuntimeException getFailure() {
+            return failure;
+        }
+    }
+
+    private static class ChunkTask extends RecursiveTask<Chunk> {
+        private static final long serialVersionUID = 1L;
+
+        private final FileChannel channel;
+        private final long start;
+        private final long end;
+        private final StringPool strings;
+
+        ChunkTask(FileChannel channel, long start, long end, StringPool strings) {
+            this.channel = channel;
+            this.start = start;
+            this.end = end;
+            this.strings = strings;
+        }
+
+        @Override
+        protected Chunk compute() {
+            Chunk chunk = new Chunk();
+            try {
+                MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, start, end - start);
+                new CSVIngestEngine(strings).parseRange(buffer, 0, buffer.limit(), start == 0, chunk.teams::add);
+            } catch (IOException e) {
+                chunk.ioError = e;
+            } catch (RuntimeException e) {
+                chunk.failure = e;
+            }
+            return chunk;
+        }
+    }
+
+    /**
+     * Number of file bytes covered by the last call to load
+     */
+    public long getBytesConsumed() {
+        return bytesConsumed;
+    }
+
+    /**
+     * Parse the lines in [start, end) of the buffer. When skipHeader is set the
+     * first line is treated as the CSV header and ignored.
+     */
+    int parseRange(MappedByteBuffer buffer, int start, int end, boolean skipHeader, Consumer<Team> sink) {
+        int produced = 0;
+        int lineStart = start;
+        boolean isFirstLine = skipHeader;
+
+        while (lineStart < end) {
+            int lineEnd = lineStart;
+            while (lineEnd < end && !isLineBreak(buffer.get(lineEnd))) {
+                lineEnd++;
+            }
+
+            currentLineEnd = lineEnd;
+            if (isFirstLine) {
+                isFirstLine = false; // Skip header row
+            } else {
+                Team team = parseLine(buffer, lineStart, lineEnd);
+                if (team != null) {
+                    sink.accept(team);
+                    produced++;
+                }
+            }
+
+            // Accept \n, \r and \r\n as line terminators, like BufferedReader.readLine
+            lineStart = lineEnd;
+            if (lineStart < end && buffer.get(lineStart) == '\r') {
+                lineStart++;
+            }
+            if (lineStart < end && buffer.get(lineStart) == '\n') {
+                lineStart++;
+            }
+        }
+        return produced;
+    }
+
+    /**
+     * Position just past the terminator of the line that was being parsed
+     * when parseRange last returned or threw
+     */
+    int skipCurrentLine(MappedByteBuffer buffer, int end) {
+        int position = currentLineEnd;
+        if (position < end && buffer.get(position) == '\r') {
+            position++;
+        }
+        if (position < end && buffer.get(position) == '\n') {
+            position++;
+        }
+        return position;
+    }
+
+    /**
+     * Build a team from one line, or return null if the line has too few fields
+     */
+    private Team parseLine(MappedByteBuffer buffer, int start, int end) {
+        int fields = splitFields(buffer, start, end);
+        if (fields < MIN_FIELDS) {
+            return null;
+        }
+
+        // Parse team basic info
+        int teamNumber = parseInt(buffer, 0);
+        String teamName = text(buffer, 1);
+        String university = pool.intern(text(buffer, 2));
+        String categoryName = text(buffer, 3);
+
+        // Shared category instance from the registry
+        Category category = CategoryRegistry.get(categoryName);
+
+        // Create team leader
+        Competitor leader = new Competitor(
+                parseInt(buffer, 6),
+                text(buffer, 4),
+                text(buffer, 5),
+                parseDate(buffer, 7),
+                true
+        );
+
+        // Parse scores (remaining columns)
+        int[] scores = new int[fields - MIN_FIELDS];
+        for (int i = MIN_FIELDS; i < fields; i++) {
+            scores[i - MIN_FIELDS] = parseInt(buffer, i);
+        }
+
+        Competitor[] members = {};
+
+        // Create appropriate subclass based on category
+        if (categoryName.equalsIgnoreCase("Artificial Intelligence")) {
+            return new AITeam(teamNumber, teamName, university, category, leader, members, scores);
+        } else {
+            return new WebDevelopmentTeam(teamNumber, teamName, university, category, leader, members, scores);
+        }
+    }
+
+    /**
+     * Record trimmed field boundaries for the line and return the field count.
+     * Trailing empty fields are dropped, the same as String.split(",").
+     */
+    private int splitFields(MappedByteBuffer buffer, int start, int end) {
+        int count = 0;
+        int lastNonEmpty = 0;
+        int fieldBegin = start;
+
+        for (int i = start; i <= end; i++) {
+            if (i == end || buffer.get(i) == ',') {
+                if (count == fieldStart.length) {
+                    fieldStart = java.util.Arrays.copyOf(fieldStart, count * 2);
+                    fieldEnd = java.util.Arrays.copyOf(fieldEnd, count * 2);
+                }
+                // split() drops trailing fields only when they are truly empty (before trimming)
+                if (i > fieldBegin) {
+                    lastNonEmpty = count + 1;
+                }
+
+                int s = fieldBegin;
+                int e = i;
+                while (s < e && (buffer.get(s) & 0xFF) <= ' ') s++;
+                while (e > s && (buffer.get(e - 1) & 0xFF) <= ' ') e--;
+                fieldStart[count] = s;
+                fieldEnd[count] = e;
+                count++;
+                fieldBegin = i + 1;
+            }
+        }
+        return lastNonEmpty;
+    }
+
+    private String text(MappedByteBuffer buffer, int field) {
+        return text(buffer, fieldStart[field], fieldEnd[field]);
+    }
+
+    private String text(MappedByteBuffer buffer, int start, int end) {
+        int length = end - start;
+        if (length > scratch.length) {
+            scratch = new byte[Math.max(length, scratch.length * 2)];
+        }
+        buffer.get(start, scratch, 0, length);
+        return new String(scratch, 0, length, StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Parse a decimal int straight from the bytes. Anything unusual (overflow,
+     * stray characters) is handed to Integer.parseInt so the error is identical.
+     */
+    private int parseInt(MappedByteBuffer buffer, int field) {
+        int s = fieldStart[field];
+        int e = fieldEnd[field];
+        boolean negative = false;
+        if (s < e && (buffer.get(s) == '-' || buffer.get(s) == '+')) {
+            negative = buffer.get(s) == '-';
+            s++;
+        }
+
+        int digits = e - s;
+        if (digits > 0 && digits <= 9) {
+            int value = 0;
+            for (int i = s; i < e; i++) {
+                int d = buffer.get(i) - '0';
+                if (d < 0 || d > 9) {
+                    return Integer.parseInt(text(buffer, field));
+                }
+                value = value * 10 + d;
+            }
+            return negative ? -value : value;
+        }
+        return Integer.parseInt(text(buffer, field));
+    }
+
+    /**
+     * Parse an ISO yyyy-MM-dd date from the bytes, falling back to LocalDate.parse
+     * for any other shape so that invalid input fails the same way as before.
+     */
+    private LocalDate parseDate(MappedByteBuffer buffer, int field) {
+        int s = fieldStart[field];
+        if (fieldEnd[field] - s == 10 && buffer.get(s + 4) == '-' && buffer.get(s + 7) == '-') {
+            int year = digits(buffer, s, 4);
+            int month = digits(buffer, s + 5, 2);
+            int day = digits(buffer, s + 8, 2);
+            if (year >= 0 && month >= 0 && day >= 0) {
+                try {
+                    return LocalDate.of(year, month, day);
+                } catch (java.time.DateTimeException e) {
+                    // fall through so the message matches LocalDate.parse
+                }
+            }
+        }
+        return LocalDate.parse(text(buffer, field));
+    }
+
+    private static int digits(MappedByteBuffer buffer, int from, int count) {
+        int value = 0;
+        for (int i = from; i < from + count; i++) {
+            int d = buffer.get(i) - '0';
+            if (d < 0 || d > 9) {
+                return -1;
+            }
+            value = value * 10 + d;
+        }
+        return value;
+    }
+
+    static boolean isLineBreak(byte b) {
+        return b == '\n' || b == '\r';
+    }
+
+    /**
+     * Position just after the last line terminator in the buffer, or 0 if there is none
+     */
+    static int lastLineEnd(MappedByteBuffer buffer) {
+        for (int i = buffer.limit() - 1; i >= 0; i--) {
+            if (buffer.get(i) == '\n') {
+                return i + 1;
+            }
+            if (buffer.get(i) == '\r') {
+                // A trailing \r may be the first half of \r\n split across windows
+                return i;
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,77 @@
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+
+/**
+ * CSVLoadBenchmark - throughput comparison of the CSV loaders
+ * Generates a synthetic teams file and times the BufferedReader loader
+ * against the memory-mapped CSVIngestEngine, sequential and parallel,
+ * and against a cold start from the binary TeamSnapshot.
+ * Usage: java CSVLoadBenchmark [rows] [rounds]
+ */
+public class CSVLoadBenchmark {
+    private static final String[] CATEGORIES = {
+            "Web Development", "Artificial Intelligence", "Cybersecurity", "Mobile Applications"
+    };
+
+    public static void main(String[] args) throws IOException {
+        int rows = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 3;
+
+        File file = File.createTempFile("teams-bench", ".csv");
+        file.deleteOnExit();
+        writeSyntheticCSV(file, rows);
+        double megabytes = file.length() / (1024.0 * 1024.0);
+        System.out.printf("Generated %d rows (%.1f MB)%n%n", rows, megabytes);
+
+        TeamList seed = new TeamList();
+        seed.loadTeamsFromCSV(file.getPath());
+        seed.saveSnapshot(file.getPath());
+        File snapshot = TeamSnapshot.snapshotPathFor(file.getPath()).toFile();
+        snapshot.deleteOnExit();
+
+        for (int round = 1; round <= rounds; round++) {
+            long buffered = time(() -> new TeamList().loadTeamsFromCSVBuffered(file.getPath()));
+            long mapped = time(() -> new TeamList().loadTeamsFromCSV(file.getPath()));
+            long parallel = time(() -> new TeamList().loadTeamsFromCSVParallel(file.getPath()));
+            long fromSnapshot = time(() -> new TeamList().loadTeams(file.getPath()));
+
+            System.out.println("=== ROUND " + round + " ===");
+            report("BufferedReader + split", rows, megabytes, buffered);
+            report("Memory-mapped engine  ", rows, megabytes, mapped);
+            report("Parallel mapped engine", rows, megabytes, parallel);
+            report("Binary snapshot       ", rows, megabytes, fromSnapshot);
+            System.out.printf("Speed-up: %.2fx mapped, %.2fx parallel, %.2fx snapshot (%d cores)%n%n",
+                    (double) buffered / mapped, (double) buffered / parallel, (double) buffered / fromSnapshot,
+                    Runtime.getRuntime().availableProcessors());
+        }
+    }
+
+    static void writeSyntheticCSV(File file, int rows) throws IOException {
+        try (BufferedWriter writer = new BufferedWriter(new FileWriter(file))) {
+            writer.write("teamNumber,teamName,university,category,leaderName,leaderEmail,"
+                    + "leaderStudentID,leaderDOB,score1,score2,score3,score4,score5\n");
+            for (int i = 0; i < rows; i++) {
+                int uni = i % 300;
+                writer.write((100 + i) + ",Team " + i + ",University " + uni + "," + CATEGORIES[i % CATEGORIES.length]
+                        + ",Leader " + i + ",leader" + i + "@uni" + uni + ".edu.my," + (10000 + i)
+                        + ",2000-0" + (1 + i % 9) + "-1" + (i % 10)
+                        + "," + (1 + i % 5) + "," + (1 + (i / 5) % 5) + "," + (1 + (i / 7) % 5)
+                        + "," + (1 + (i / 11) % 5) + "," + (1 + (i / 13) % 5) + "\n");
+            }
+        }
+    }
+
+    private static long time(Runnable loader) {
+        long start = System.nanoTime();
+        loader.run();
+        return System.nanoTime() - start;
+    }
+
+    private static void report(String name, int rows, double megabytes, long nanos) {
+        double seconds = nanos / 1e9;
+        System.out.printf("%s: %8.1f ms  %12.0f rows/s  %8.1f MB/s%n",
+                name, nanos / 1e6, rows / seconds, megabytes / seconds);
+    }
+}
@@ -0,0 +1,156 @@
+import java.io.IOException;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CSVTailFollower - picks up rows appended to the teams CSV while the system runs
+ * Watches the file's directory with a WatchService and, on each change, parses
+ * only the bytes after the last ingested row. New teams are handed to the
+ * listener in batches, on the follower thread, each with the file offset
+ * just after its last row.
+ */
+public class CSVTailFollower implements AutoCloseable {
+    // How long a final row without a line break must stay unchanged before it is read
+    private static final long QUIET_PERIOD_MS = 200;
+
+    private final Path csvFile;
+    private final BatchListener listener;
+    private final StringPool pool;
+    private final WatchService watcher;
+    private final Thread thread;
+    private volatile boolean running = true;
+
+    private long offset;
+    private long pendingSize = -1;
+
+    /**
+     * Receives each batch of appended teams
+     */
+    public interface BatchListener {
+        /**
+         * @param endOffset byte offset just after the batch's last row; once the
+         *                  batch is added, following can resume from there
+         */
+        void teamsAppended(List<Team> batch, long endOffset);
+    }
+
+    /**
+     * @param startOffset byte offset just after the last row already loaded
+     */
+    public CSVTailFollower(String csvFilename, long startOffset, StringPool pool,
+                           BatchListener listener) throws IOException {
+        this.csvFile = Paths.get(csvFilename).toAbsolutePath();
+        this.offset = startOffset;
+        this.pool = pool;
+        this.listener = listener;
+        this.watcher = FileSystems.getDefault().newWatchService();
+        csvFile.getParent().register(watcher, StandardWatchEventKinds.ENTRY_MODIFY, StandardWatchEventKinds.ENTRY_CREATE);
+
+        this.thread = new Thread(this::followLoop, "csv-tail-follower");
+        this.thread.setDaemon(true);
+    }
+
+    public void start() {
+        thread.start();
+    }
+
+    /**
+     * Byte offset just after the last row handed to the listener
+     */
+    public synchronized long getOffset() {
+        return offset;
+    }
+
+    @Override
+    public void close() throws IOException {
+        running = false;
+        thread.interrupt();
+        watcher.close();
+    }
+
+    private void followLoop() {
+        try {
+            // Catch anything appended between the initial load and registration
+            readAppended(false);
+            while (running) {
+                WatchKey key = watcher.poll(QUIET_PERIOD_MS, TimeUnit.MILLISECONDS);
+                if (key == null) {
+                    // Nothing changed for a while: a trailing row without a line break is complete
+                    if (pendingSize >= 0) {
+                        readAppended(true);
+                    }
+                    continue;
+                }
+
+                boolean changed = false;
+                for (WatchEvent<?> event : key.pollEvents()) {
+                    Object context = event.context();
+                    if (context instanceof Path && csvFile.getFileName().equals(context)) {
+                        changed = true;
+                    }
+                }
+                key.reset();
+                if (changed) {
+                    readAppended(false);
+                }
+            }
+        } catch (InterruptedException | ClosedWatchServiceException e) {
+            // Follower stopped
+        } catch (IOException e) {
+            System.err.println("Stopped following " + csvFile + ": " + e.getMessage());
+        }
+    }
+
+    /**
+     * Parse rows between the saved offset and the end of the file. Unless
+     * includeTail is set, a final row without a line break is left for later.
+     */
+    synchronized void readAppended(boolean includeTail) throws IOException {
+        List<Team> batch = new ArrayList<>();
+        long batchEnd;
+        try (FileChannel channel = FileChannel.open(csvFile, StandardOpenOption.READ)) {
+            long size = channel.size();
+            if (size < offset) {
+                System.err.println(csvFile.getFileName() + " was truncated; following from its new end.");
+                offset = size;
+                pendingSize = -1;
+                return;
+            }
+            if (size == offset) {
+                pendingSize = -1;
+                return;
+            }
+
+            long length = Math.min(size - offset, CSVIngestEngine.MAX_WINDOW);
+            MappedByteBuffer buffer = channel.map(FileChannel.MapMode.READ_ONLY, offset, length);
+            int end = includeTail && length == size - offset && size == pendingSize
+                    ? buffer.limit()
+                    : CSVIngestEngine.lastLineEnd(buffer);
+
+            CSVIngestEngine engine = new CSVIngestEngine(pool);
+            int position = 0;
+            while (position < end) {
+                try {
+                    engine.parseRange(buffer, position, end, false, batch::add);
+                    position = end;
+                } catch (RuntimeException e) {
+                    // Report the bad row and carry on with the rows after it
+                    System.err.println("Skipping unreadable row in " + csvFile.getFileName() + ": " + e.getMessage());
+                    position = engine.skipCurrentLine(buffer, end);
+                }
+            }
+
+            offset += end;
+            pendingSize = offset < size ? size : -1;
+            batchEnd = offset;
+        }
+
+        if (!batch.isEmpty()) {
+            listener.teamsAppended(batch, batchEnd);
+        }
+    }
+}
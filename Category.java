@@ -1,6 +1,11 @@
-public class Category {
-    private int categoryID;
-    private String categoryName;
+/**
+ * Category - one hackathon category
+ * Instances are shared by every team in the category through
+ * CategoryRegistry, so they are immutable.
+ */
+public final class Category {
+    private final int categoryID;
+    private final String categoryName;
 
     public Category(int categoryID, String categoryName) {
         this.categoryID = categoryID;
@@ -11,18 +16,10 @@ public class Category {
         return categoryID;
     }
 
-    public void setCategoryID(int categoryID) {
-        this.categoryID = categoryID;
-    }
-
     public String getCategoryName() {
         return categoryName;
     }
 
-    public void setCategoryName(String categoryName) {
-        this.categoryName = categoryName;
-    }
-
     @Override
     public String toString() {
         return "Category{" +
@@ -0,0 +1,66 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * CategoryRegistry - one shared Category instance per category name
+ * Every loader and assignment path asks the registry for its Category, so
+ * categories can be compared by identity and each name keeps a stable ID.
+ * The four standard categories are registered first with IDs 1-4.
+ */
+public class CategoryRegistry {
+    private static final ConcurrentHashMap<String, Category> categories = new ConcurrentHashMap<>();
+    private static final AtomicInteger nextID = new AtomicInteger(1);
+
+    static {
+        get("Web Development");
+        get("Artificial Intelligence");
+        get("Cybersecurity");
+        get("Mobile Applications");
+    }
+
+    private CategoryRegistry() {
+    }
+
+    /**
+     * Get the canonical category for the name, registering it if it is new
+     */
+    public static Category get(String categoryName) {
+        Category category = categories.get(categoryName);
+        if (category != null) {
+            return category;
+        }
+        return categories.computeIfAbsent(categoryName,
+                name -> new Category(nextID.getAndIncrement(), name));
+    }
+
+    /**
+     * Find a registered category by name ignoring case, or null if there is none
+     */
+    public static Category find(String categoryName) {
+        Category category = categories.get(categoryName);
+        if (category != null) {
+            return category;
+        }
+        for (Category registered : categories.values()) {
+            if (registered.getCategoryName().equalsIgnoreCase(categoryName)) {
+                return registered;
+            }
+        }
+        return null;
+    }
+
+    /**
+     * All registered categories in ID order
+     */
+    public static List<Category> getAll() {
+        List<Category> all = new ArrayList<>(categories.values());
+        all.sort((c1, c2) -> Integer.compare(c1.getCategoryID(), c2.getCategoryID()));
+        return all;
+    }
+
+    public static int size() {
+        return categories.size();
+    }
+}
@@ -0,0 +1,74 @@
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * CsvTeamExporter - the teams in the teams.csv layout, so the file loads back with loadTeamsFromCSV
+ * Only the team rows are written; the statistics and frequencies are worked
+ * out again from them when the file is loaded. The loader does not handle
+ * quoting, so a value it could not read back unchanged (one with a comma, a
+ * line break or surrounding spaces) stops the export with an IOException
+ * rather than writing a file that loads differently.
+ */
+public class CsvTeamExporter implements TeamExporter {
+    private static final String HEADER = "teamNumber,teamName,university,category,leaderName,leaderEmail,"
+            + "leaderStudentID,leaderDOB,score1,score2,score3,score4,score5\n";
+
+    @Override
+    public String getName() {
+        return "CSV";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "csv";
+    }
+
+    @Override
+    public void export(TeamList teamList, Writer out, ReportProgress progress) throws IOException {
+        out.write(HEADER);
+        teamList.streamTeams(progress, snapshot -> writeTeam(out, snapshot));
+        out.flush();
+        progress.sectionFinished("Teams");
+    }
+
+    private static void writeTeam(Writer out, Team.ScoreSnapshot snapshot) throws IOException {
+        Team team = snapshot.getTeam();
+        Competitor leader = team.getTeamLeader();
+        if (leader == null || leader.getDateOfBirth() == null) {
+            throw new IOException("Team " + team.getTeamNumber() + " has no team leader details to write");
+        }
+
+        out.write(Integer.toString(team.getTeamNumber()));
+        writeField(out, team, team.getTeamName());
+        writeField(out, team, team.getUniversity());
+        writeField(out, team, team.getCategory() == null ? null : team.getCategory().getCategoryName());
+        writeField(out, team, leader.getName());
+        writeField(out, team, leader.getEmail());
+        out.write(',');
+        out.write(Integer.toString(leader.getStudentID()));
+        out.write(',');
+        out.write(leader.getDateOfBirth().toString());
+
+        int[] scores = snapshot.getScores();
+        if (scores != null) {
+            for (int score : scores) {
+                out.write(',');
+                out.write(Integer.toString(score));
+            }
+        }
+        out.write('\n');
+    }
+
+    private static void writeField(Writer out, Team team, String value) throws IOException {
+        if (value == null || value.isEmpty()) {
+            throw new IOException("Team " + team.getTeamNumber() + " has an empty field");
+        }
+        if (value.indexOf(',') >= 0 || value.indexOf('\n') >= 0 || value.indexOf('\r') >= 0
+                || value.charAt(0) <= ' ' || value.charAt(value.length() - 1) <= ' ') {
+            throw new IOException("Team " + team.getTeamNumber() + ": \"" + value
+                    + "\" cannot be written to CSV without changing it");
+        }
+        out.write(',');
+        out.write(value);
+    }
+}
@@ -0,0 +1,27 @@
+/**
+ * DropLowestPolicy - mean after dropping the lowest scores
+ * With no more scores than would be dropped, all are averaged.
+ */
+public class DropLowestPolicy implements ScoringPolicy {
+    private final int dropCount;
+
+    public DropLowestPolicy(int dropCount) {
+        if (dropCount < 0) {
+            throw new IllegalArgumentException("Drop count must not be negative: " + dropCount);
+        }
+        this.dropCount = dropCount;
+    }
+
+    @Override
+    public double score(int[] data, int offset, int length) {
+        if (length <= dropCount) {
+            return ScoringKernel.simpleAverage(data, offset, length);
+        }
+        return ScoringKernel.sortedRangeAverage(data, offset, length, dropCount, length);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Drop lowest " + dropCount;
+    }
+}
@@ -1,3 +1,6 @@
+import javax.swing.*;
+import java.io.IOException;
+import java.io.Writer;
 import java.util.ArrayList;
 import java.util.Comparator;
 
@@ -7,6 +10,8 @@ import java.util.Comparator;
  */
 public class HackathonController {
     private TeamList teamList;
+    // Generated reports, reused until the team list's version moves on
+    private final ReportCache reportCache = new ReportCache();
 
     public HackathonController(TeamList teamList) {
         this.teamList = teamList;
@@ -25,6 +30,27 @@ public class HackathonController {
         return teamList.removeTeam(teamID);
     }
 
+    // Follow mode: rows appended to the source CSV are added as they arrive
+    public CSVTailFollower followSourceCSV(Runnable onTeamsAdded) throws IOException {
+        String source = teamList.getSourceFilename();
+        if (source == null) {
+            return null;
+        }
+
+        CSVTailFollower follower = new CSVTailFollower(source, teamList.getSourceOffset(), teamList.getStringPool(),
+                (batch, endOffset) ->
+                        // Hand the batch to the Event Dispatch Thread, which owns the team list. Record the
+                        // batch's own end offset: the follower may already have read further rows that are
+                        // still waiting to be added, and a restart must not skip them
+                        SwingUtilities.invokeLater(() -> {
+                            teamList.addIngestedTeams(batch);
+                            teamList.setSourceOffset(endOffset);
+                            onTeamsAdded.run();
+                        }));
+        follower.start();
+        return follower;
+    }
+
     // Sorting methods
     public void sortTeamsByScore() {
         teamList.sortByScore();
@@ -44,23 +70,28 @@ public class HackathonController {
 
     // Filtering methods
     public ArrayList<Team> getTeamsByCategory(String categoryName) {
-        ArrayList<Team> filtered = new ArrayList<>();
-        for (Team team : teamList.getAllTeams()) {
-            if (team.getCategory().getCategoryName().equalsIgnoreCase(categoryName)) {
-                filtered.add(team);
-            }
+        Category category = CategoryRegistry.find(categoryName);
+        if (category == null) {
+            return new ArrayList<>();
         }
-        return filtered;
+        return teamList.getTeamsByCategory(category);
+    }
+
+    public ArrayList<Team> getTeamsByUniversity(String university) {
+        return teamList.getTeamsByUniversity(university);
     }
 
     public ArrayList<Team> getTeamsByMinScore(double minScore) {
-        ArrayList<Team> filtered = new ArrayList<>();
-        for (Team team : teamList.getAllTeams()) {
-            if (team.getOverallScore() >= minScore) {
-                filtered.add(team);
-            }
-        }
-        return filtered;
+        return teamList.getTeamsByMinScore(minScore);
+    }
+
+    public ArrayList<Team> getTeamsInScoreBand(double minScore, double maxScore) {
+        return teamList.getTeamsInScoreBand(minScore, maxScore);
+    }
+
+    // Detail editing
+    public boolean updateTeamDetails(int teamID, String teamName, String university) {
+        return teamList.updateTeamDetails(teamID, teamName, university);
     }
 
     // Score editing
@@ -71,17 +102,91 @@ public class HackathonController {
         }
     }
 
-    // Reporting
+    // Reporting, cached until the team list changes
     public String generateFullReport() {
-        return teamList.generateFullReport();
+        return getCachedReport("Full Team Report", teamList::generateFullReportParallel);
     }
 
     public String getSummaryStatistics() {
-        return teamList.getSummaryStatistics();
+        return getCachedReport("Summary Statistics", teamList::getSummaryStatistics);
+    }
+
+    public String generateFinalReport() {
+        return getCachedReport("Final Report", teamList::generateFinalReport);
+    }
+
+    /**
+     * The report of this type as of the team list's current version, built only
+     * if the list has changed since it was last built
+     */
+    public String getCachedReport(String reportType, java.util.function.Supplier<String> builder) {
+        return reportCache.get(reportType, teamList.getVersion(), builder);
+    }
+
+    public boolean submitJudgeScores(int teamNumber, Judge judge, int[] scores) {
+        return teamList.submitJudgeScores(teamNumber, judge, scores);
+    }
+
+    public void setJudgeAllocation(JudgeAllocation allocation) {
+        teamList.setJudgeAllocation(allocation);
     }
 
+    public void setScoringPolicy(Category category, ScoringPolicy policy) {
+        teamList.setScoringPolicy(category, policy);
+    }
+
+    public ScoreHistogram getScoreFrequency() {
+        return teamList.getScoreFrequency();
+    }
+
+    public String getJudgeNormalizedRanking() {
+        return getCachedReport("Judge-Normalized Ranking", teamList::getJudgeNormalizedRanking);
+    }
+
+    public String getDetailedStatistics() {
+        return getCachedReport("Detailed Statistics", teamList::getDetailedStatistics);
+    }
+
+    /**
+     * Write the final report, printing whether it was written
+     */
     public void writeReportToFile(String filename) {
-        teamList.writeReportToFile(filename);
+        try {
+            writeReportToFile(filename, ReportProgress.NONE);
+            System.out.println("Report successfully written to: " + filename);
+        } catch (IOException e) {
+            System.err.println("Error writing report to file: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Write the final report and force it to disk, reusing it if it is already
+     * cached for the current version; otherwise it is streamed to the file
+     * without being cached
+     */
+    public void writeReportToFile(String filename, ReportProgress progress) throws IOException {
+        String cached = reportCache.peek("Final Report", teamList.getVersion());
+        if (cached == null) {
+            teamList.writeReportToFile(filename, progress);
+        } else {
+            ReportFileWriter.write(filename, out -> out.write(cached));
+        }
+    }
+
+    /**
+     * Export the teams, statistics and score frequencies to the file
+     */
+    public void exportToFile(String filename, TeamExporter exporter, ReportProgress progress) throws IOException {
+        teamList.exportToFile(filename, exporter, progress);
+    }
+
+    // Streaming report methods, for callers that show the report as it is written
+    public void writeFinalReport(Writer out, ReportProgress progress) throws IOException {
+        teamList.writeFinalReport(out, progress);
+    }
+
+    public void writeFullReport(Writer out, ReportProgress progress) throws IOException {
+        teamList.writeFullReportParallel(out, progress);
     }
 
     public Team getHighestScoringTeam() {
@@ -2,6 +2,8 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.WindowAdapter;
 import java.awt.event.WindowEvent;
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Main GUI window for Hackathon Management System
@@ -15,6 +17,11 @@ public class HackathonGUI extends JFrame {
     private TeamManagementPanel teamManagementPanel;
     private ScorePanel scorePanel;
     private ReportPanel reportPanel;
+    private CSVTailFollower csvFollower;
+    private JButton closeButton;
+    private JLabel statusLabel;
+    // Set once the final report is being saved, so a second close is ignored
+    private boolean closing;
 
     public HackathonGUI(HackathonController controller) {
         this.controller = controller;
@@ -43,13 +50,22 @@ public class HackathonGUI extends JFrame {
         add(tabbedPane, BorderLayout.CENTER);
 
         // Add close button
-        JButton closeButton = new JButton("Close & Save Report");
+        closeButton = new JButton("Close & Save Report");
         closeButton.addActionListener(e -> closeApplication());
 
         JPanel bottomPanel = new JPanel();
         bottomPanel.add(closeButton);
+        statusLabel = new JLabel();
+        bottomPanel.add(statusLabel);
         add(bottomPanel, BorderLayout.SOUTH);
 
+        // Pick up teams appended to the CSV while the window is open
+        try {
+            csvFollower = controller.followSourceCSV(() -> teamManagementPanel.refreshTeamTable());
+        } catch (IOException e) {
+            System.err.println("Could not follow team CSV: " + e.getMessage());
+        }
+
         // Handle window closing
         addWindowListener(new WindowAdapter() {
             @Override
@@ -59,19 +75,61 @@ public class HackathonGUI extends JFrame {
         });
     }
 
+    /**
+     * Save the final report on a background thread, so the window keeps
+     * painting, and exit once it is safely on disk
+     */
     private void closeApplication() {
-        // Write final report
-        controller.writeReportToFile("final_gui_report.txt");
-        System.out.println("Final report saved to: final_gui_report.txt");
+        if (closing) {
+            return;
+        }
+        closing = true;
+        closeButton.setEnabled(false);
+        tabbedPane.setEnabled(false);
+        statusLabel.setText("Saving final report...");
+        setCursor(Cursor.getPredefinedCursor(Cursor.WAIT_CURSOR));
+
+        new SwingWorker<Void, Void>() {
+            @Override
+            protected Void doInBackground() throws IOException {
+                if (csvFollower != null) {
+                    try {
+                        csvFollower.close();
+                    } catch (IOException e) {
+                        System.err.println("Error stopping CSV follower: " + e.getMessage());
+                    }
+                }
+
+                // Write final report
+                controller.writeReportToFile("final_gui_report.txt", ReportProgress.NONE);
+                return null;
+            }
 
-        // Exit application
-        System.exit(0);
+            @Override
+            protected void done() {
+                try {
+                    get();
+                    System.out.println("Final report saved to: final_gui_report.txt");
+                } catch (InterruptedException | ExecutionException e) {
+                    // Tell the user the report is missing before the window goes away
+                    Throwable cause = e.getCause() != null ? e.getCause() : e;
+                    System.err.println("Error writing report to file: " + cause.getMessage());
+                    JOptionPane.showMessageDialog(HackathonGUI.this,
+                            "The final report could not be saved: " + cause.getMessage(),
+                            "Save Failed",
+                            JOptionPane.ERROR_MESSAGE);
+                }
+
+                // Exit application
+                System.exit(0);
+            }
+        }.execute();
     }
 
     public static void main(String[] args) {
         // Load team data
         TeamList teamList = new TeamList();
-        teamList.loadTeamsFromCSV("teams.csv");
+        teamList.loadTeams("teams.csv");
 
         // Create controller and GUI
         HackathonController controller = new HackathonController(teamList);
@@ -1,4 +1,5 @@
 import javax.swing.*;
+import java.io.IOException;
 import java.time.LocalDate;
 import java.util.*;
 
@@ -9,8 +10,8 @@ import java.util.*;
 public class HackathonManager {
     private TeamList teamList;
     private Scanner scanner;
-    private List<Judge> judges = new ArrayList<>();
-    private List<JudgeCategoryAssignment> judgeAssignments = new ArrayList<>();
+    // Judges and their category assignments
+    private JudgeAssignmentIndex judgeIndex = new JudgeAssignmentIndex();
 
     public HackathonManager() {
         this.teamList = new TeamList();
@@ -85,16 +86,16 @@ public class HackathonManager {
 
     //Load team data from CSV file
     private void loadTeamData() {
-        teamList.loadTeamsFromCSV("teams.csv");
+        teamList.loadTeams("teams.csv");
         System.out.println("Total teams loaded: " + teamList.getTotalTeams() + "\n");
     }
     private void initializeJudges() {
-        judges.add(new Judge(1, "Dr. Ahmad"));
-        judges.add(new Judge(2, "Prof. Siti"));
-        judges.add(new Judge(3, "Mr. Raj"));
-        judges.add(new Judge(4, "Ms. Lee"));
+        judgeIndex.addJudge(new Judge(1, "Dr. Ahmad"));
+        judgeIndex.addJudge(new Judge(2, "Prof. Siti"));
+        judgeIndex.addJudge(new Judge(3, "Mr. Raj"));
+        judgeIndex.addJudge(new Judge(4, "Ms. Lee"));
 
-        System.out.println("Initialized " + judges.size() + " judges.");
+        System.out.println("Initialized " + judgeIndex.getJudgeCount() + " judges.");
     }
 
     /**
@@ -116,8 +117,11 @@ public class HackathonManager {
             System.out.println("9. Generate Reports");
             System.out.println("10. View Summary Statistics");
             System.out.println("11. View Score Frequency");
-            System.out.println("12. Exit");
-            System.out.print("Choose an option (1-12): ");
+            System.out.println("12. Change Category Scoring Policy");
+            System.out.println("13. Allocate Judges to Teams");
+            System.out.println("14. Export Teams (JSON Lines / CSV / HTML)");
+            System.out.println("15. Exit");
+            System.out.print("Choose an option (1-15): ");
 
             try {
                 int choice = Integer.parseInt(scanner.nextLine().trim());
@@ -157,21 +161,30 @@ public class HackathonManager {
                         displayScoreFrequency();
                         break;
                     case 12:
+                        changeScoringPolicy();
+                        break;
+                    case 13:
+                        allocateJudgesToTeams();
+                        break;
+                    case 14:
+                        exportTeams();
+                        break;
+                    case 15:
                         running = false;
                         System.out.println("Thank you for using Hackathon Management System!");
                         break;
                     default:
-                        System.out.println("Invalid option. Please choose 1-12.\n");
+                        System.out.println("Invalid option. Please choose 1-15.\n");
                 }
             } catch (NumberFormatException e) {
-                System.out.println("Please enter a valid number (1-12).\n");
+                System.out.println("Please enter a valid number (1-15).\n");
             }
         }
     }
 
     //Display full team report to console
     private void viewAllTeams() {
-        System.out.println("\n" + teamList.generateFullReport());
+        System.out.println("\n" + teamList.generateFullReportParallel());
     }
 
     //Search for a team by ID and display short details
@@ -237,7 +250,7 @@ public class HackathonManager {
                     categoryName = "Web Development";
             }
 
-            Category category = new Category(teamList.getTotalTeams() + 1, categoryName);
+            Category category = CategoryRegistry.get(categoryName);
 
             // Get team leader details
             System.out.println("\n=== TEAM LEADER DETAILS ===");
@@ -331,14 +344,14 @@ public class HackathonManager {
                     case 1:
                         System.out.print("New Team Name: ");
                         String newName = scanner.nextLine().trim();
-                        team.setTeamName(newName);
+                        teamList.updateTeamDetails(teamID, newName, team.getUniversity());
                         System.out.println("Team name updated!");
                         break;
 
                     case 2:
                         System.out.print("New University: ");
                         String newUni = scanner.nextLine().trim();
-                        team.setUniversity(newUni);
+                        teamList.updateTeamDetails(teamID, team.getTeamName(), newUni);
                         System.out.println("University updated!");
                         break;
 
@@ -405,6 +418,21 @@ public class HackathonManager {
                 System.out.println("Current scores: " + java.util.Arrays.toString(team.getScoreArray()));
                 System.out.println("Current overall score: " + team.getOverallScore());
 
+                JudgeScoreMatrix judgeScores = team.getJudgeScores();
+                if (judgeScores != null) {
+                    System.out.println("Judges who have scored this team: " + judgeScores.getJudgeCount());
+                }
+                System.out.print("Judge ID (press Enter to set the scores directly): ");
+                String judgeInput = scanner.nextLine().trim();
+                Judge judge = null;
+                if (!judgeInput.isEmpty()) {
+                    judge = findJudgeByID(Integer.parseInt(judgeInput));
+                    if (judge == null) {
+                        System.out.println("Invalid Judge ID.");
+                        return;
+                    }
+                }
+
                 int[] newScores = new int[5];
                 System.out.println("\nEnter new scores (1-5):");
 
@@ -420,8 +448,19 @@ public class HackathonManager {
                     }
                 }
 
-                team.setScores(newScores);
-                System.out.println("\n✅ Scores updated successfully!");
+                if (judge != null) {
+                    try {
+                        teamList.submitJudgeScores(teamID, judge, newScores);
+                    } catch (IllegalArgumentException e) {
+                        System.out.println("Scores not recorded: " + e.getMessage());
+                        return;
+                    }
+                    System.out.println("\n✅ Scores recorded for " + judge.getJudgeName() + "!");
+                    System.out.println("Consensus scores: " + java.util.Arrays.toString(team.getScoreArray()));
+                } else {
+                    team.setScores(newScores);
+                    System.out.println("\n✅ Scores updated successfully!");
+                }
                 System.out.println("New overall score: " + team.getOverallScore());
 
             } else {
@@ -439,19 +478,22 @@ public class HackathonManager {
 
         try {
             // List existing judges or create new
-            if (judges.isEmpty()) {
+            if (judgeIndex.getJudgeCount() == 0) {
                 System.out.println("No judges exist. Creating new judge...");
                 System.out.print("Judge Name: ");
                 String judgeName = scanner.nextLine().trim();
+                System.out.print("Judge University (optional): ");
+                String judgeUniversity = scanner.nextLine().trim();
 
-                Judge newJudge = new Judge(judges.size() + 1, judgeName);
-                judges.add(newJudge);
+                Judge newJudge = new Judge(judgeIndex.nextJudgeID(), judgeName,
+                        judgeUniversity.isEmpty() ? null : judgeUniversity);
+                judgeIndex.addJudge(newJudge);
                 System.out.println("Created Judge ID: " + newJudge.getJudgeID());
             }
 
             // List judges
             System.out.println("\nAvailable Judges:");
-            for (Judge judge : judges) {
+            for (Judge judge : judgeIndex.getJudges()) {
                 System.out.println(judge.getJudgeID() + ". " + judge.getJudgeName());
             }
 
@@ -466,15 +508,11 @@ public class HackathonManager {
 
             // List categories
             System.out.println("\nAvailable Categories:");
-            Set<String> categories = new HashSet<>();
-            for (Team team : teamList.getAllTeams()) {
-                categories.add(team.getCategory().getCategoryName());
-            }
+            List<Category> categoryList = teamList.getCategories();
 
             int i = 1;
-            List<String> categoryList = new ArrayList<>(categories);
-            for (String cat : categoryList) {
-                System.out.println(i++ + ". " + cat);
+            for (Category cat : categoryList) {
+                System.out.println(i++ + ". " + cat.getCategoryName());
             }
 
             System.out.print("\nSelect Category (by number): ");
@@ -485,21 +523,20 @@ public class HackathonManager {
                 return;
             }
 
-            String categoryName = categoryList.get(catChoice);
-            Category category = new Category(catChoice + 1, categoryName);
-
-            // Assign judge
-            selectedJudge.assignToCategory(category);
+            Category category = categoryList.get(catChoice);
+            String categoryName = category.getCategoryName();
 
-            // Create assignment record
-            JudgeCategoryAssignment assignment = new JudgeCategoryAssignment(
-                    judgeAssignments.size() + 1,
+            // Assign judge and create assignment record
+            JudgeCategoryAssignment assignment = judgeIndex.assign(
                     selectedJudge,
                     category,
                     LocalDate.now(),
                     "Console Admin"
             );
-            judgeAssignments.add(assignment);
+            if (assignment == null) {
+                System.out.println("\n" + selectedJudge.getJudgeName() + " is already assigned to " + categoryName + ".");
+                return;
+            }
 
             System.out.println("\n✅ Judge assigned successfully!");
             System.out.println("Judge: " + selectedJudge.getJudgeName());
@@ -510,24 +547,151 @@ public class HackathonManager {
         }
     }
 
-    private Judge findJudgeByID(int judgeID) {
-        for (Judge judge : judges) {
-            if (judge.getJudgeID() == judgeID) {
-                return judge;
+    //Choose how a category's overall scores are calculated
+    private void changeScoringPolicy() {
+        System.out.println("\n=== CHANGE CATEGORY SCORING POLICY ===");
+
+        try {
+            List<Category> categoryList = teamList.getCategories();
+            int i = 1;
+            for (Category cat : categoryList) {
+                ScoringPolicy current = ScoringPolicyRegistry.get(cat);
+                System.out.println(i++ + ". " + cat.getCategoryName() + " - "
+                        + (current != null ? current.getDescription() : "Team type default"));
+            }
+
+            System.out.print("\nSelect Category (by number): ");
+            int catChoice = Integer.parseInt(scanner.nextLine().trim()) - 1;
+            if (catChoice < 0 || catChoice >= categoryList.size()) {
+                System.out.println("Invalid category selection.");
+                return;
             }
+            Category category = categoryList.get(catChoice);
+
+            System.out.println("\n1. Simple average");
+            System.out.println("2. Weighted average (0.15, 0.25, 0.20, 0.25, 0.15)");
+            System.out.println("3. Trimmed mean (drop highest and lowest)");
+            System.out.println("4. Drop lowest score");
+            System.out.println("5. Team type default");
+            System.out.print("Select Policy (1-5): ");
+            int policyChoice = Integer.parseInt(scanner.nextLine().trim());
+
+            switch (policyChoice) {
+                case 1:
+                    teamList.setScoringPolicy(category, ScoringPolicyRegistry.SIMPLE_AVERAGE);
+                    break;
+                case 2:
+                    teamList.setScoringPolicy(category, ScoringPolicyRegistry.WEIGHTED_AVERAGE);
+                    break;
+                case 3:
+                    teamList.setScoringPolicy(category, new TrimmedMeanPolicy(1));
+                    break;
+                case 4:
+                    teamList.setScoringPolicy(category, new DropLowestPolicy(1));
+                    break;
+                case 5:
+                    teamList.clearScoringPolicy(category);
+                    break;
+                default:
+                    System.out.println("Invalid policy selection.");
+                    return;
+            }
+
+            System.out.println("\n✅ Scoring policy updated for " + category.getCategoryName()
+                    + ". All overall scores have been recalculated.");
+
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format.");
         }
-        return null;
+    }
+
+    //Give every team judges from its category, balancing the judges' loads
+    private void allocateJudgesToTeams() {
+        System.out.println("\n=== ALLOCATE JUDGES TO TEAMS ===");
+        System.out.print("Judges per team (default 3): ");
+
+        try {
+            String input = scanner.nextLine().trim();
+            int judgesPerTeam = input.isEmpty() ? 3 : Integer.parseInt(input);
+            if (judgesPerTeam < 1) {
+                System.out.println("Each team needs at least one judge.");
+                return;
+            }
+
+            JudgeAllocation allocation = new JudgeAllocationSolver(judgesPerTeam)
+                    .allocate(teamList.getAllTeams(), judgeIndex);
+            System.out.println("\n" + allocation.getSummary());
+
+            for (Team team : teamList.getAllTeams()) {
+                StringBuilder names = new StringBuilder();
+                for (Judge judge : allocation.getJudgesFor(team)) {
+                    if (names.length() > 0) {
+                        names.append(", ");
+                    }
+                    names.append(judge.getJudgeName());
+                }
+                System.out.println("TID " + team.getTeamNumber() + " (" + team.getCategory().getCategoryName() + "): "
+                        + (names.length() == 0 ? "No eligible judges" : names.toString()));
+            }
+
+            teamList.setJudgeAllocation(allocation);
+            System.out.println("\nScores for these teams are now accepted only from their allocated judges.");
+
+            if (!allocation.getUnderstaffedTeams().isEmpty()) {
+                System.out.println("\nSome teams have fewer than " + judgesPerTeam + " judges. Assign more judges "
+                        + "to their categories (option 7) and allocate again.");
+            }
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format.");
+        }
+    }
+
+    private void exportTeams() {
+        System.out.println("\n=== EXPORT TEAMS ===");
+        List<TeamExporter> exporters = TeamExporter.getAll();
+        for (int i = 0; i < exporters.size(); i++) {
+            System.out.println((i + 1) + ". " + exporters.get(i).getName());
+        }
+        System.out.print("Select Format (1-" + exporters.size() + "): ");
+
+        try {
+            int formatChoice = Integer.parseInt(scanner.nextLine().trim()) - 1;
+            if (formatChoice < 0 || formatChoice >= exporters.size()) {
+                System.out.println("Invalid format selection.");
+                return;
+            }
+            TeamExporter exporter = exporters.get(formatChoice);
+
+            String defaultName = "teams_export." + exporter.getFileExtension();
+            System.out.print("File name (default " + defaultName + "): ");
+            String filename = scanner.nextLine().trim();
+            if (filename.isEmpty()) {
+                filename = defaultName;
+            }
+
+            teamList.exportToFile(filename, exporter, ReportProgress.NONE);
+            System.out.println("Exported " + teamList.getTotalTeams() + " teams to: " + filename);
+        } catch (NumberFormatException e) {
+            System.out.println("Invalid number format.");
+        } catch (IOException e) {
+            System.out.println("Error exporting teams: " + e.getMessage());
+        }
+    }
+
+    private Judge findJudgeByID(int judgeID) {
+        return judgeIndex.getJudge(judgeID);
     }
 
     private void viewJudgeAssignments() {
         System.out.println("\n=== JUDGE ASSIGNMENTS ===");
 
-        if (judgeAssignments.isEmpty()) {
+        List<JudgeCategoryAssignment> assignments = judgeIndex.getAssignments();
+        if (assignments.isEmpty()) {
             System.out.println("No judge assignments found.");
             return;
         }
 
-        for (JudgeCategoryAssignment assignment : judgeAssignments) {
+        for (JudgeCategoryAssignment assignment : assignments) {
             System.out.println("\nAssignment ID: " + assignment.getAssignmentID());
             System.out.println("Judge: " + assignment.getJudge().getJudgeName());
             System.out.println("Category: " + assignment.getCategory().getCategoryName());
@@ -535,6 +699,21 @@ public class HackathonManager {
             System.out.println("Assigned by: " + assignment.getAssignedBy());
             System.out.println("------------------------");
         }
+
+        // Judges per category, straight from the category index
+        System.out.println("\nJudges by Category:");
+        for (Category category : teamList.getCategories()) {
+            List<Judge> categoryJudges = judgeIndex.getJudgesFor(category);
+            StringBuilder names = new StringBuilder();
+            for (Judge judge : categoryJudges) {
+                if (names.length() > 0) {
+                    names.append(", ");
+                }
+                names.append(judge.getJudgeName());
+            }
+            System.out.println(category.getCategoryName() + ": "
+                    + (categoryJudges.isEmpty() ? "No judges assigned" : names.toString()));
+        }
     }
 
     //Generate complete report and write to file
@@ -570,16 +749,15 @@ public class HackathonManager {
     //Display score frequency report
     private void displayScoreFrequency() {
         System.out.println("\n=== SCORE FREQUENCY REPORT ===");
-        var frequency = teamList.getScoreFrequency();
+        ScoreHistogram frequency = teamList.getScoreFrequency();
 
         System.out.println("Score | Frequency");
         System.out.println("------|----------");
-        for (var entry : frequency.entrySet()) {
-            System.out.println(entry.getKey() + "     | " + entry.getValue());
+        for (int score = frequency.getMinScore(); score <= frequency.getMaxScore(); score++) {
+            System.out.println(score + "     | " + frequency.getCount(score));
         }
 
-        int totalScores = frequency.values().stream().mapToInt(Integer::intValue).sum();
-        System.out.println("Total individual scores: " + totalScores);
+        System.out.println("Total individual scores: " + frequency.getTotal());
     }
 
     /**
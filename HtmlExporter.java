@@ -0,0 +1,110 @@
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * HtmlExporter - a static HTML page with a table of teams, the summary statistics and the score frequencies
+ * The page needs no scripts or external files. Rows are written as the teams
+ * are read, so the summary tables come after the team table.
+ */
+public class HtmlExporter implements TeamExporter {
+    @Override
+    public String getName() {
+        return "HTML";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "html";
+    }
+
+    @Override
+    public void export(TeamList teamList, Writer out, ReportProgress progress) throws IOException {
+        out.write("<!DOCTYPE html>\n<html>\n<head>\n<meta charset=\"utf-8\">\n"
+                + "<title>Hackathon Teams</title>\n"
+                + "<style>body{font-family:sans-serif}table{border-collapse:collapse;margin-bottom:2em}"
+                + "th,td{border:1px solid #999;padding:2px 8px}td.n{text-align:right}</style>\n"
+                + "</head>\n<body>\n<h1>Hackathon Teams</h1>\n<table>\n"
+                + "<thead><tr><th>Team ID</th><th>Name</th><th>University</th><th>Category</th>"
+                + "<th>Leader</th><th>Scores</th><th>Overall Score</th></tr></thead>\n<tbody>\n");
+        ReportStatistics stats = teamList.streamTeams(progress, snapshot -> writeTeam(out, snapshot));
+        out.write("</tbody>\n</table>\n");
+        out.flush();
+        progress.sectionFinished("Teams");
+
+        Team.ScoreSnapshot highest = stats.getHighest();
+        Team.ScoreSnapshot lowest = stats.getLowest();
+        out.write("<h2>Summary Statistics</h2>\n<table>\n");
+        writeRow(out, "Total Teams", Integer.toString(stats.getTeamCount()));
+        writeRow(out, "Average Overall Score", Double.toString(stats.getAverageOverallScore()));
+        writeRow(out, "Highest Overall Score", Double.toString(stats.getMaxOverallScore()));
+        writeRow(out, "Lowest Overall Score", Double.toString(stats.getMinOverallScore()));
+        writeRow(out, "Standard Deviation", Double.toString(stats.getStandardDeviation()));
+        writeRow(out, "Individual Scores", Long.toString(stats.getIndividualScoreCount()));
+        writeRow(out, "Highest Scoring Team", highest == null ? "-" : highest.getShortDetails());
+        writeRow(out, "Lowest Scoring Team", lowest == null ? "-" : lowest.getShortDetails());
+        out.write("</table>\n");
+        progress.sectionFinished("Summary Statistics");
+
+        out.write("<h2>Score Frequency</h2>\n<table>\n<thead><tr><th>Score</th><th>Frequency</th></tr></thead>\n<tbody>\n");
+        ScoreHistogram frequency = stats.getScoreFrequency();
+        for (int score = frequency.getMinScore(); score <= frequency.getMaxScore(); score++) {
+            out.write("<tr><td class=\"n\">" + score + "</td><td class=\"n\">" + frequency.getCount(score) + "</td></tr>\n");
+        }
+        out.write("</tbody>\n</table>\n</body>\n</html>\n");
+        out.flush();
+        progress.sectionFinished("Score Frequency");
+    }
+
+    private static void writeTeam(Writer out, Team.ScoreSnapshot snapshot) throws IOException {
+        Team team = snapshot.getTeam();
+        Competitor leader = team.getTeamLeader();
+        out.write("<tr><td class=\"n\">");
+        out.write(Integer.toString(team.getTeamNumber()));
+        out.write("</td><td>");
+        writeEscaped(out, team.getTeamName());
+        out.write("</td><td>");
+        writeEscaped(out, team.getUniversity());
+        out.write("</td><td>");
+        writeEscaped(out, team.getCategory() == null ? null : team.getCategory().getCategoryName());
+        out.write("</td><td>");
+        writeEscaped(out, leader == null ? null : leader.getName());
+        out.write("</td><td>");
+        int[] scores = snapshot.getScores();
+        if (scores != null) {
+            for (int i = 0; i < scores.length; i++) {
+                if (i > 0) {
+                    out.write(' ');
+                }
+                out.write(Integer.toString(scores[i]));
+            }
+        }
+        out.write("</td><td class=\"n\">");
+        out.write(Double.toString(snapshot.getOverallScore()));
+        out.write("</td></tr>\n");
+    }
+
+    private static void writeRow(Writer out, String label, String value) throws IOException {
+        out.write("<tr><th>");
+        out.write(label);
+        out.write("</th><td>");
+        writeEscaped(out, value);
+        out.write("</td></tr>\n");
+    }
+
+    private static void writeEscaped(Writer out, String value) throws IOException {
+        if (value == null) {
+            return;
+        }
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '&': out.write("&amp;"); break;
+                case '<': out.write("&lt;"); break;
+                case '>': out.write("&gt;"); break;
+                case '"': out.write("&quot;"); break;
+                case '\'': out.write("&#39;"); break;
+                default: out.write(c);
+            }
+        }
+    }
+}
@@ -0,0 +1,109 @@
+import java.io.IOException;
+import java.io.Writer;
+
+/**
+ * JsonLinesExporter - one JSON object per line
+ * A "team" line for every team, then one "statistics" line, then a
+ * "frequency" line for every score value. Each line has a "type" field so a
+ * reader can tell them apart.
+ */
+public class JsonLinesExporter implements TeamExporter {
+    @Override
+    public String getName() {
+        return "JSON Lines";
+    }
+
+    @Override
+    public String getFileExtension() {
+        return "jsonl";
+    }
+
+    @Override
+    public void export(TeamList teamList, Writer out, ReportProgress progress) throws IOException {
+        ReportStatistics stats = teamList.streamTeams(progress, snapshot -> writeTeam(out, snapshot));
+        out.flush();
+        progress.sectionFinished("Teams");
+
+        Team.ScoreSnapshot highest = stats.getHighest();
+        Team.ScoreSnapshot lowest = stats.getLowest();
+        out.write("{\"type\":\"statistics\",\"totalTeams\":" + stats.getTeamCount()
+                + ",\"averageOverallScore\":" + stats.getAverageOverallScore()
+                + ",\"maxOverallScore\":" + stats.getMaxOverallScore()
+                + ",\"minOverallScore\":" + stats.getMinOverallScore()
+                + ",\"standardDeviation\":" + stats.getStandardDeviation()
+                + ",\"individualScores\":" + stats.getIndividualScoreCount()
+                + ",\"highestTeamNumber\":" + (highest == null ? "null" : highest.getTeam().getTeamNumber())
+                + ",\"lowestTeamNumber\":" + (lowest == null ? "null" : lowest.getTeam().getTeamNumber())
+                + "}\n");
+        progress.sectionFinished("Summary Statistics");
+
+        ScoreHistogram frequency = stats.getScoreFrequency();
+        for (int score = frequency.getMinScore(); score <= frequency.getMaxScore(); score++) {
+            out.write("{\"type\":\"frequency\",\"score\":" + score + ",\"count\":" + frequency.getCount(score) + "}\n");
+        }
+        out.flush();
+        progress.sectionFinished("Score Frequency");
+    }
+
+    private static void writeTeam(Writer out, Team.ScoreSnapshot snapshot) throws IOException {
+        Team team = snapshot.getTeam();
+        Competitor leader = team.getTeamLeader();
+        out.write("{\"type\":\"team\",\"teamNumber\":");
+        out.write(Integer.toString(team.getTeamNumber()));
+        writeField(out, "teamName", team.getTeamName());
+        writeField(out, "university", team.getUniversity());
+        writeField(out, "category", team.getCategory() == null ? null : team.getCategory().getCategoryName());
+        writeField(out, "leaderName", leader == null ? null : leader.getName());
+        writeField(out, "leaderEmail", leader == null ? null : leader.getEmail());
+        out.write(",\"leaderStudentID\":");
+        out.write(leader == null ? "null" : Integer.toString(leader.getStudentID()));
+        writeField(out, "leaderDOB", leader == null || leader.getDateOfBirth() == null
+                ? null : leader.getDateOfBirth().toString());
+
+        out.write(",\"scores\":");
+        int[] scores = snapshot.getScores();
+        if (scores == null) {
+            out.write("null");
+        } else {
+            out.write('[');
+            for (int i = 0; i < scores.length; i++) {
+                if (i > 0) {
+                    out.write(',');
+                }
+                out.write(Integer.toString(scores[i]));
+            }
+            out.write(']');
+        }
+        out.write(",\"overallScore\":");
+        out.write(Double.toString(snapshot.getOverallScore()));
+        out.write("}\n");
+    }
+
+    private static void writeField(Writer out, String name, String value) throws IOException {
+        out.write(",\"");
+        out.write(name);
+        out.write("\":");
+        if (value == null) {
+            out.write("null");
+            return;
+        }
+        out.write('"');
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"': out.write("\\\""); break;
+                case '\\': out.write("\\\\"); break;
+                case '\n': out.write("\\n"); break;
+                case '\r': out.write("\\r"); break;
+                case '\t': out.write("\\t"); break;
+                default:
+                    if (c < 0x20) {
+                        out.write(String.format("\\u%04x", (int) c));
+                    } else {
+                        out.write(c);
+                    }
+            }
+        }
+        out.write('"');
+    }
+}
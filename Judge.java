@@ -4,26 +4,62 @@ import java.util.*;
 public class Judge {
     private int judgeID;
     private String judgeName;
-    private List<Category> assignedCategories;
+    // Judge's own university, or null; they may not score teams from it
+    private String university;
+    // Set keeps assignment order and makes the membership check O(1)
+    private Set<Category> assignedCategories;
+    // Mean and spread of every score this judge has submitted, for normalizing harsh or lenient judges
+    private final RunningStatistics scoreStatistics = new RunningStatistics();
 
     public Judge(int judgeID, String judgeName) {
+        this(judgeID, judgeName, null);
+    }
+
+    public Judge(int judgeID, String judgeName, String university) {
         this.judgeID = judgeID;
         this.judgeName = judgeName;
-        this.assignedCategories = new ArrayList<>();
+        this.university = university;
+        this.assignedCategories = new LinkedHashSet<>();
     }
 
     // Getters and setters
     public int getJudgeID() { return judgeID; }
     public String getJudgeName() { return judgeName; }
-    public List<Category> getAssignedCategories() { return assignedCategories; }
+    public String getUniversity() { return university; }
+    public void setUniversity(String university) { this.university = university; }
+
+    /**
+     * True if the team is from the judge's own university
+     */
+    public boolean hasConflictWith(Team team) {
+        return university != null && university.equalsIgnoreCase(team.getUniversity());
+    }
+    public List<Category> getAssignedCategories() { return new ArrayList<>(assignedCategories); }
+    public RunningStatistics getScoreStatistics() { return scoreStatistics; }
+
+    public boolean isAssignedTo(Category category) {
+        return assignedCategories.contains(category);
+    }
+
+    /**
+     * How many standard deviations the score is above this judge's mean.
+     * 0 until the judge's scores have some spread.
+     */
+    public double zScore(double score) {
+        double deviation = scoreStatistics.getStandardDeviation();
+        return deviation > 0 ? (score - scoreStatistics.getMean()) / deviation : 0;
+    }
 
-    public void assignToCategory(Category category) {
-        if (!assignedCategories.contains(category)) {
-            assignedCategories.add(category);
-        }
+    /**
+     * Returns false if the judge was already assigned to the category.
+     * Only JudgeAssignmentIndex calls this, so its lookups stay in step;
+     * assign judges through the index.
+     */
+    boolean assignToCategory(Category category) {
+        return assignedCategories.add(category);
     }
 
-    public void removeFromCategory(Category category) {
+    void removeFromCategory(Category category) {
         assignedCategories.remove(category);
     }
 }
\ No newline at end of file
@@ -0,0 +1,118 @@
+import java.util.*;
+
+/**
+ * JudgeAllocation - which judges score which teams, as produced by JudgeAllocationSolver
+ * Teams that could not be given the full number of judges (too few judges in
+ * the category without a conflict of interest) are listed as understaffed.
+ * Once stored with TeamList.setJudgeAllocation it decides which judges may
+ * submit scores for the teams it covers. It is not changed after solving.
+ */
+public class JudgeAllocation {
+    private final int judgesPerTeam;
+    private final Map<Team, List<Judge>> judgesByTeam = new LinkedHashMap<>();
+    private final Map<Judge, List<Team>> teamsByJudge = new LinkedHashMap<>();
+    private final List<Team> understaffed = new ArrayList<>();
+
+    public JudgeAllocation(int judgesPerTeam) {
+        this.judgesPerTeam = judgesPerTeam;
+    }
+
+    void addJudge(Judge judge) {
+        teamsByJudge.computeIfAbsent(judge, j -> new ArrayList<>());
+    }
+
+    void assign(Team team, Judge judge) {
+        judgesByTeam.computeIfAbsent(team, t -> new ArrayList<>()).add(judge);
+        teamsByJudge.computeIfAbsent(judge, j -> new ArrayList<>()).add(team);
+    }
+
+    void markUnderstaffed(Team team) {
+        judgesByTeam.computeIfAbsent(team, t -> new ArrayList<>());
+        understaffed.add(team);
+    }
+
+    /**
+     * Add the allocation of another, disjoint group of categories
+     */
+    void merge(JudgeAllocation other) {
+        for (Map.Entry<Team, List<Judge>> entry : other.judgesByTeam.entrySet()) {
+            judgesByTeam.computeIfAbsent(entry.getKey(), t -> new ArrayList<>()).addAll(entry.getValue());
+        }
+        for (Map.Entry<Judge, List<Team>> entry : other.teamsByJudge.entrySet()) {
+            teamsByJudge.computeIfAbsent(entry.getKey(), j -> new ArrayList<>()).addAll(entry.getValue());
+        }
+        understaffed.addAll(other.understaffed);
+    }
+
+    /**
+     * Whether the team was part of this allocation
+     */
+    public boolean covers(Team team) {
+        return judgesByTeam.containsKey(team);
+    }
+
+    public boolean isAllocated(Team team, Judge judge) {
+        List<Judge> judges = judgesByTeam.get(team);
+        return judges != null && judges.contains(judge);
+    }
+
+    public int getJudgesPerTeam() {
+        return judgesPerTeam;
+    }
+
+    public List<Judge> getJudgesFor(Team team) {
+        List<Judge> judges = judgesByTeam.get(team);
+        return judges == null ? new ArrayList<>() : new ArrayList<>(judges);
+    }
+
+    public List<Team> getTeamsFor(Judge judge) {
+        List<Team> teams = teamsByJudge.get(judge);
+        return teams == null ? new ArrayList<>() : new ArrayList<>(teams);
+    }
+
+    public List<Team> getUnderstaffedTeams() {
+        return new ArrayList<>(understaffed);
+    }
+
+    public int getTeamCount() {
+        return judgesByTeam.size();
+    }
+
+    /**
+     * Number of teams given to each judge that could score at least one of the teams
+     */
+    public Map<Judge, Integer> getJudgeLoads() {
+        Map<Judge, Integer> loads = new LinkedHashMap<>();
+        for (Map.Entry<Judge, List<Team>> entry : teamsByJudge.entrySet()) {
+            loads.put(entry.getKey(), entry.getValue().size());
+        }
+        return loads;
+    }
+
+    public String getSummary() {
+        int minLoad = Integer.MAX_VALUE;
+        int maxLoad = 0;
+        long totalLoad = 0;
+        for (List<Team> teams : teamsByJudge.values()) {
+            minLoad = Math.min(minLoad, teams.size());
+            maxLoad = Math.max(maxLoad, teams.size());
+            totalLoad += teams.size();
+        }
+        if (teamsByJudge.isEmpty()) {
+            minLoad = 0;
+        }
+
+        StringBuilder summary = new StringBuilder();
+        summary.append("=== JUDGE ALLOCATION ===\n");
+        summary.append("Judges per team: ").append(judgesPerTeam).append("\n");
+        summary.append("Teams allocated: ").append(judgesByTeam.size() - understaffed.size())
+                .append(" of ").append(judgesByTeam.size()).append("\n");
+        summary.append("Understaffed teams: ").append(understaffed.size()).append("\n");
+        summary.append("Judges used: ").append(teamsByJudge.size()).append("\n");
+        if (!teamsByJudge.isEmpty()) {
+            summary.append(String.format("Teams per judge: min %d, max %d, average %.1f%n",
+                    minLoad, maxLoad, (double) totalLoad / teamsByJudge.size()));
+        }
+        return summary.toString();
+    }
+}
@@ -0,0 +1,63 @@
+import java.util.List;
+import java.util.Random;
+
+/**
+ * JudgeAllocationBenchmark - times JudgeAllocationSolver on a synthetic event
+ * Teams and judges come from a fixed set of universities; each judge covers
+ * one or two categories. Every allocation is checked for conflicts of
+ * interest, unassigned categories and repeated judges.
+ * Usage: java JudgeAllocationBenchmark [teams] [judges] [judgesPerTeam] [rounds]
+ */
+public class JudgeAllocationBenchmark {
+    private static final int UNIVERSITIES = 60;
+
+    public static void main(String[] args) {
+        int teamCount = args.length > 0 ? Integer.parseInt(args[0]) : 10_000;
+        int judgeCount = args.length > 1 ? Integer.parseInt(args[1]) : 500;
+        int judgesPerTeam = args.length > 2 ? Integer.parseInt(args[2]) : 3;
+        int rounds = args.length > 3 ? Integer.parseInt(args[3]) : 3;
+
+        List<Category> categories = CategoryRegistry.getAll();
+        Random random = new Random(7);
+        TeamList teamList = new TeamList();
+        for (int i = 0; i < teamCount; i++) {
+            Category category = categories.get(i % categories.size());
+            teamList.addTeam(new WebDevelopmentTeam(100 + i, "Team " + i, "University " + random.nextInt(UNIVERSITIES),
+                    category, null, new Competitor[0], new int[]{3, 3, 3, 3, 3}));
+        }
+
+        JudgeAssignmentIndex judges = new JudgeAssignmentIndex();
+        for (int i = 1; i <= judgeCount; i++) {
+            Judge judge = new Judge(i, "Judge " + i, "University " + random.nextInt(UNIVERSITIES));
+            judges.addJudge(judge);
+            judges.assign(judge, categories.get(random.nextInt(categories.size())), null, "Benchmark");
+            if (random.nextInt(3) == 0) {
+                judges.assign(judge, categories.get(random.nextInt(categories.size())), null, "Benchmark");
+            }
+        }
+        System.out.printf("%d teams, %d judges, %d judges per team (%d cores)%n%n",
+                teamCount, judgeCount, judgesPerTeam, Runtime.getRuntime().availableProcessors());
+
+        JudgeAllocationSolver solver = new JudgeAllocationSolver(judgesPerTeam);
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            JudgeAllocation allocation = solver.allocate(teamList.getAllTeams(), judges);
+            long nanos = System.nanoTime() - start;
+
+            for (Team team : teamList.getAllTeams()) {
+                List<Judge> assigned = allocation.getJudgesFor(team);
+                for (int i = 0; i < assigned.size(); i++) {
+                    Judge judge = assigned.get(i);
+                    if (judge.hasConflictWith(team) || !judge.isAssignedTo(team.getCategory())
+                            || assigned.indexOf(judge) != i) {
+                        throw new IllegalStateException("Invalid allocation of " + judge.getJudgeName() + " to " + team);
+                    }
+                }
+            }
+
+            System.out.println("=== ROUND " + round + " ===");
+            System.out.printf("Allocated in %.1f ms%n", nanos / 1e6);
+            System.out.println(allocation.getSummary());
+        }
+    }
+}
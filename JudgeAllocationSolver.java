@@ -0,0 +1,167 @@
+import java.util.*;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+
+/**
+ * JudgeAllocationSolver - gives every team a fixed number of judges, spreading the load evenly
+ * A judge can only score teams in a category they are assigned to, and never
+ * a team from their own university. Each team takes the eligible judges with
+ * the fewest teams so far, from a min-heap of judges per category keyed by
+ * load. Categories that share no judges cannot affect each other, so each
+ * connected group of categories is solved as a separate parallel task.
+ */
+public class JudgeAllocationSolver {
+    private final int judgesPerTeam;
+    private final ForkJoinPool pool;
+
+    public JudgeAllocationSolver(int judgesPerTeam) {
+        this(judgesPerTeam, ForkJoinPool.commonPool());
+    }
+
+    public JudgeAllocationSolver(int judgesPerTeam, ForkJoinPool pool) {
+        if (judgesPerTeam <= 0) {
+            throw new IllegalArgumentException("Each team needs at least one judge");
+        }
+        this.judgesPerTeam = judgesPerTeam;
+        this.pool = pool;
+    }
+
+    public JudgeAllocation allocate(List<Team> teams, JudgeAssignmentIndex judges) {
+        Map<Category, List<Team>> teamsByCategory = new LinkedHashMap<>();
+        for (Team team : teams) {
+            teamsByCategory.computeIfAbsent(team.getCategory(), c -> new ArrayList<>()).add(team);
+        }
+
+        List<ForkJoinTask<JudgeAllocation>> tasks = new ArrayList<>();
+        for (List<Category> group : connectedCategories(teamsByCategory.keySet(), judges)) {
+            tasks.add(pool.submit(() -> allocateGroup(group, teamsByCategory, judges)));
+        }
+
+        JudgeAllocation allocation = new JudgeAllocation(judgesPerTeam);
+        for (ForkJoinTask<JudgeAllocation> task : tasks) {
+            allocation.merge(task.join());
+        }
+        return allocation;
+    }
+
+    /**
+     * Group the categories so that two categories sharing a judge are in the same group
+     */
+    private static List<List<Category>> connectedCategories(Set<Category> categories, JudgeAssignmentIndex judges) {
+        Map<Category, Category> parent = new HashMap<>();
+        for (Category category : categories) {
+            parent.put(category, category);
+        }
+        for (Judge judge : judges.getJudges()) {
+            Category first = null;
+            for (Category category : judge.getAssignedCategories()) {
+                if (!parent.containsKey(category)) {
+                    continue;
+                }
+                if (first == null) {
+                    first = category;
+                } else {
+                    parent.put(root(parent, category), root(parent, first));
+                }
+            }
+        }
+
+        Map<Category, List<Category>> groups = new LinkedHashMap<>();
+        for (Category category : categories) {
+            groups.computeIfAbsent(root(parent, category), c -> new ArrayList<>()).add(category);
+        }
+        return new ArrayList<>(groups.values());
+    }
+
+    private static Category root(Map<Category, Category> parent, Category category) {
+        while (parent.get(category) != category) {
+            Category grandparent = parent.get(parent.get(category));
+            parent.put(category, grandparent);
+            category = grandparent;
+        }
+        return category;
+    }
+
+    private JudgeAllocation allocateGroup(List<Category> group, Map<Category, List<Team>> teamsByCategory,
+                                          JudgeAssignmentIndex judgeIndex) {
+        JudgeAllocation allocation = new JudgeAllocation(judgesPerTeam);
+
+        // Number the group's judges in ID order; loads[i] is judge i's team count so far
+        Map<Judge, Integer> numbers = new HashMap<>();
+        List<Judge> judges = new ArrayList<>();
+        for (Category category : group) {
+            for (Judge judge : judgeIndex.getJudgesFor(category)) {
+                if (!numbers.containsKey(judge)) {
+                    numbers.put(judge, -1);
+                    judges.add(judge);
+                }
+            }
+        }
+        judges.sort((j1, j2) -> Integer.compare(j1.getJudgeID(), j2.getJudgeID()));
+        for (int i = 0; i < judges.size(); i++) {
+            numbers.put(judges.get(i), i);
+            allocation.addJudge(judges.get(i));
+        }
+        int[] loads = new int[judges.size()];
+
+        // Entries are (load << 32 | judge number), so a heap yields the least-loaded
+        // judge, lowest ID on ties. A judge's load can rise through another category's
+        // heap, so an entry whose load is out of date is pushed back with the current one.
+        List<PriorityQueue<Long>> heaps = new ArrayList<>();
+        int longest = 0;
+        for (Category category : group) {
+            PriorityQueue<Long> heap = new PriorityQueue<>();
+            for (Judge judge : judgeIndex.getJudgesFor(category)) {
+                heap.add(entry(0, numbers.get(judge)));
+            }
+            heaps.add(heap);
+            longest = Math.max(longest, teamsByCategory.get(category).size());
+        }
+
+        // Take the categories' teams in turn, so judges shared between
+        // categories are balanced across all of them
+        List<Long> skipped = new ArrayList<>();
+        int[] picked = new int[judgesPerTeam];
+        for (int position = 0; position < longest; position++) {
+            for (int c = 0; c < group.size(); c++) {
+                List<Team> categoryTeams = teamsByCategory.get(group.get(c));
+                if (position >= categoryTeams.size()) {
+                    continue;
+                }
+                Team team = categoryTeams.get(position);
+                PriorityQueue<Long> heap = heaps.get(c);
+
+                int count = 0;
+                while (count < judgesPerTeam && !heap.isEmpty()) {
+                    long entry = heap.poll();
+                    int number = (int) entry;
+                    if ((int) (entry >>> 32) != loads[number]) {
+                        heap.add(entry(loads[number], number));
+                    } else if (judges.get(number).hasConflictWith(team)) {
+                        skipped.add(entry);
+                    } else {
+                        picked[count++] = number;
+                    }
+                }
+
+                for (int i = 0; i < count; i++) {
+                    int number = picked[i];
+                    loads[number]++;
+                    heap.add(entry(loads[number], number));
+                    allocation.assign(team, judges.get(number));
+                }
+                heap.addAll(skipped);
+                skipped.clear();
+
+                if (count < judgesPerTeam) {
+                    allocation.markUnderstaffed(team);
+                }
+            }
+        }
+        return allocation;
+    }
+
+    private static long entry(int load, int number) {
+        return ((long) load << 32) | number;
+    }
+}
@@ -0,0 +1,126 @@
+import java.time.LocalDate;
+import java.util.*;
+
+/**
+ * JudgeAssignmentIndex - judges and their category assignments, indexed both ways
+ * Looks up a judge by ID, the judges of a category and the categories of a
+ * judge in O(1), and rejects a second assignment of the same judge to the
+ * same category. Judges and assignment records keep the order they were added.
+ * Assignments must be made through the index (Judge.assignToCategory is
+ * package-private) so the two directions never disagree.
+ */
+public class JudgeAssignmentIndex {
+    private final Map<Integer, Judge> judgesByID = new LinkedHashMap<>();
+    private final Map<Category, LinkedHashSet<Judge>> judgesByCategory = new HashMap<>();
+    // (judge ID, category ID) -> assignment record
+    private final Map<Long, JudgeCategoryAssignment> assignmentsByKey = new HashMap<>();
+    private final List<JudgeCategoryAssignment> assignments = new ArrayList<>();
+    private int nextAssignmentID = 1;
+    // Highest judge ID added so far; judges are never removed
+    private int maxJudgeID;
+
+    /**
+     * Add a judge. Returns false without adding it if the judge ID is already in use.
+     */
+    public boolean addJudge(Judge judge) {
+        if (judgesByID.putIfAbsent(judge.getJudgeID(), judge) != null) {
+            return false;
+        }
+        maxJudgeID = Math.max(maxJudgeID, judge.getJudgeID());
+        return true;
+    }
+
+    public Judge getJudge(int judgeID) {
+        return judgesByID.get(judgeID);
+    }
+
+    /**
+     * All judges in the order they were added
+     */
+    public List<Judge> getJudges() {
+        return new ArrayList<>(judgesByID.values());
+    }
+
+    public int getJudgeCount() {
+        return judgesByID.size();
+    }
+
+    /**
+     * Lowest judge ID above every ID in use
+     */
+    public int nextJudgeID() {
+        return maxJudgeID + 1;
+    }
+
+    /**
+     * Assign the judge to the category and record who did it.
+     * Returns the new record, or null if the judge already has this category.
+     */
+    public JudgeCategoryAssignment assign(Judge judge, Category category, LocalDate assignedDate, String assignedBy) {
+        long key = key(judge, category);
+        if (assignmentsByKey.containsKey(key)) {
+            return null;
+        }
+        addJudge(judge);
+
+        JudgeCategoryAssignment assignment = new JudgeCategoryAssignment(
+                nextAssignmentID++, judge, category, assignedDate, assignedBy);
+        assignmentsByKey.put(key, assignment);
+        assignments.add(assignment);
+        judgesByCategory.computeIfAbsent(category, c -> new LinkedHashSet<>()).add(judge);
+        judge.assignToCategory(category);
+        return assignment;
+    }
+
+    /**
+     * Remove the judge from the category. Returns false if the judge was not assigned to it.
+     */
+    public boolean unassign(Judge judge, Category category) {
+        JudgeCategoryAssignment assignment = assignmentsByKey.remove(key(judge, category));
+        if (assignment == null) {
+            return false;
+        }
+        assignments.remove(assignment);
+        Set<Judge> judges = judgesByCategory.get(category);
+        judges.remove(judge);
+        if (judges.isEmpty()) {
+            judgesByCategory.remove(category);
+        }
+        judge.removeFromCategory(category);
+        return true;
+    }
+
+    public boolean isAssigned(Judge judge, Category category) {
+        return assignmentsByKey.containsKey(key(judge, category));
+    }
+
+    public JudgeCategoryAssignment getAssignment(Judge judge, Category category) {
+        return assignmentsByKey.get(key(judge, category));
+    }
+
+    /**
+     * Judges assigned to the category, in assignment order
+     */
+    public List<Judge> getJudgesFor(Category category) {
+        Set<Judge> judges = judgesByCategory.get(category);
+        return judges == null ? new ArrayList<>() : new ArrayList<>(judges);
+    }
+
+    /**
+     * Categories the judge is assigned to, in assignment order
+     */
+    public List<Category> getCategoriesFor(Judge judge) {
+        return judge.getAssignedCategories();
+    }
+
+    /**
+     * Every assignment record in the order it was made
+     */
+    public List<JudgeCategoryAssignment> getAssignments() {
+        return new ArrayList<>(assignments);
+    }
+
+    private static long key(Judge judge, Category category) {
+        return ((long) judge.getJudgeID() << 32) | (category.getCategoryID() & 0xFFFFFFFFL);
+    }
+}
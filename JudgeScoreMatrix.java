@@ -0,0 +1,229 @@
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * JudgeScoreMatrix - every judge's scores for one team, one row per judge
+ * Each criterion (column) keeps a running sum and a count of each score
+ * value, so a submission, resubmission or withdrawal updates the aggregates
+ * in O(criteria) and the consensus scores are read from the aggregates
+ * without revisiting the rows. The consensus for a criterion is its trimmed
+ * mean (trimCount judges dropped from each end) rounded half up, or its
+ * plain mean when there are too few judges to trim.
+ * The consensus is rounded to a whole score on purpose: it becomes the
+ * team's scores, which the ScoreStore, frequency reports, CSV and snapshot
+ * files all hold as whole scores, and the team's ScoringPolicy then scores
+ * it exactly as it scores a team loaded from the CSV. The overall score is
+ * therefore quantized per criterion: two judges giving 3 and 4 on every
+ * criterion give a consensus of 4 each, so an overall of 4.0 rather than
+ * 3.5. getMean and getTrimmedMean give the unrounded aggregates.
+ * Submissions also feed each judge's running score statistics, and the
+ * total of each judge's row is kept for the judge-normalized score.
+ */
+public class JudgeScoreMatrix {
+    public static final int DEFAULT_TRIM_COUNT = 1;
+
+    private final int criteria;
+    private final int minScore;
+    private final int maxScore;
+    private final int trimCount = DEFAULT_TRIM_COUNT;
+
+    // Judge ID -> that judge's latest submission
+    private final Map<Integer, Submission> rows = new HashMap<>();
+    // Per criterion: total of the judges' scores and count of each score value
+    private final long[] sums;
+    private final ScoreHistogram[] histograms;
+
+    public JudgeScoreMatrix(int criteria, int minScore, int maxScore) {
+        if (criteria <= 0) {
+            throw new IllegalArgumentException("At least one criterion is required");
+        }
+        this.criteria = criteria;
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.sums = new long[criteria];
+        this.histograms = new ScoreHistogram[criteria];
+        for (int c = 0; c < criteria; c++) {
+            histograms[c] = new ScoreHistogram(minScore, maxScore);
+        }
+    }
+
+    public int getCriteriaCount() {
+        return criteria;
+    }
+
+    /**
+     * Record the judge's scores, replacing any earlier submission by the same judge.
+     * Returns the new consensus scores.
+     */
+    public synchronized int[] submit(Judge judge, int[] scores) {
+        if (scores == null || scores.length != criteria) {
+            throw new IllegalArgumentException("Expected " + criteria + " scores");
+        }
+        for (int score : scores) {
+            if (score < minScore || score > maxScore) {
+                throw new IllegalArgumentException("Score " + score + " is outside " + minScore + "-" + maxScore);
+            }
+        }
+
+        Submission row = new Submission(judge, scores.clone());
+        Submission previous = rows.put(judge.getJudgeID(), row);
+        if (previous != null) {
+            unaccount(previous);
+        }
+        account(row);
+        return getConsensusScores();
+    }
+
+    /**
+     * Drop the judge's submission. Returns the new consensus scores, or null
+     * if no judge has scored the team any more.
+     */
+    public synchronized int[] withdraw(Judge judge) {
+        Submission previous = rows.remove(judge.getJudgeID());
+        if (previous != null) {
+            unaccount(previous);
+        }
+        return rows.isEmpty() ? null : getConsensusScores();
+    }
+
+    public synchronized int getJudgeCount() {
+        return rows.size();
+    }
+
+    public synchronized List<Integer> getJudgeIDs() {
+        return new ArrayList<>(rows.keySet());
+    }
+
+    /**
+     * Copy of the scores the judge submitted, or null if the judge has not scored this team
+     */
+    public synchronized int[] getJudgeScores(int judgeID) {
+        Submission row = rows.get(judgeID);
+        return row == null ? null : row.scores.clone();
+    }
+
+    /**
+     * Judges dropped from each end of a criterion before averaging
+     */
+    public int getTrimCount() {
+        return trimCount;
+    }
+
+    /**
+     * Mean score for the criterion over all judges, or 0 with no judges
+     */
+    public synchronized double getMean(int criterion) {
+        int judges = rows.size();
+        return judges == 0 ? 0 : (double) sums[criterion] / judges;
+    }
+
+    /**
+     * Mean score for the criterion with trimCount judges dropped from each end,
+     * or the plain mean when there are too few judges to trim
+     */
+    public synchronized double getTrimmedMean(int criterion) {
+        int judges = rows.size();
+        if (judges == 0) return 0;
+        int trim = judges > 2 * trimCount ? trimCount : 0;
+        return (double) trimmedSum(criterion, trim) / (judges - 2 * trim);
+    }
+
+    /**
+     * Consensus score for each criterion: the trimmed mean rounded half up
+     * to a whole score (see the class comment for why it is rounded)
+     */
+    public synchronized int[] getConsensusScores() {
+        int judges = rows.size();
+        int[] consensus = new int[criteria];
+        if (judges == 0) {
+            return consensus;
+        }
+        int trim = judges > 2 * trimCount ? trimCount : 0;
+        long kept = judges - 2L * trim;
+        for (int c = 0; c < criteria; c++) {
+            long sum = trimmedSum(c, trim);
+            consensus[c] = (int) Math.floorDiv(2 * sum + kept, 2 * kept);
+        }
+        return consensus;
+    }
+
+    /**
+     * Mean z-score of every submitted score, each measured against its own
+     * judge's running mean and standard deviation, or 0 with no judges.
+     * Worked out from each judge's row total, so it costs O(judges).
+     */
+    public synchronized double getNormalizedScore() {
+        if (rows.isEmpty()) return 0;
+        double zTotal = 0;
+        for (Submission row : rows.values()) {
+            RunningStatistics statistics = row.judge.getScoreStatistics();
+            double deviation = statistics.getStandardDeviation();
+            if (deviation > 0) {
+                zTotal += (row.total - criteria * statistics.getMean()) / deviation;
+            }
+        }
+        return zTotal / ((double) rows.size() * criteria);
+    }
+
+    private void account(Submission row) {
+        RunningStatistics statistics = row.judge.getScoreStatistics();
+        for (int c = 0; c < criteria; c++) {
+            int score = row.scores[c];
+            sums[c] += score;
+            histograms[c].add(score);
+            statistics.add(score);
+        }
+    }
+
+    private void unaccount(Submission row) {
+        RunningStatistics statistics = row.judge.getScoreStatistics();
+        for (int c = 0; c < criteria; c++) {
+            int score = row.scores[c];
+            sums[c] -= score;
+            histograms[c].remove(score);
+            statistics.remove(score);
+        }
+    }
+
+    /**
+     * Sum of the criterion's scores without the trim lowest and trim highest,
+     * walking the score counts in from both ends (O(score range))
+     */
+    private long trimmedSum(int criterion, int trim) {
+        long sum = sums[criterion];
+        if (trim == 0) return sum;
+        ScoreHistogram histogram = histograms[criterion];
+
+        long remaining = trim;
+        for (int score = minScore; remaining > 0; score++) {
+            long taken = Math.min(remaining, histogram.getCount(score));
+            sum -= taken * score;
+            remaining -= taken;
+        }
+        remaining = trim;
+        for (int score = maxScore; remaining > 0; score--) {
+            long taken = Math.min(remaining, histogram.getCount(score));
+            sum -= taken * score;
+            remaining -= taken;
+        }
+        return sum;
+    }
+
+    private static final class Submission {
+        final Judge judge;
+        final int[] scores;
+        final long total;
+
+        Submission(Judge judge, int[] scores) {
+            this.judge = judge;
+            this.scores = scores;
+            long total = 0;
+            for (int score : scores) {
+                total += score;
+            }
+            this.total = total;
+        }
+    }
+}
@@ -6,10 +6,10 @@ public class Main {
         System.out.println("=== HACKATHON MANAGEMENT SYSTEM ===\n");
 
         // Create category objects.
-        Category webDev = new Category(1, "Web Development");
-        Category cybSec = new Category(1,"Cybersecurity");
-        Category ai = new Category(3, "Artificial Intelligence");
-        Category mobApp = new Category(4, "Mobile Application");
+        Category webDev = CategoryRegistry.get("Web Development");
+        Category cybSec = CategoryRegistry.get("Cybersecurity");
+        Category ai = CategoryRegistry.get("Artificial Intelligence");
+        Category mobApp = CategoryRegistry.get("Mobile Application");
 
         // Create competitor for Team 100
         Competitor leader100 = new Competitor(10001, "Ahmad Faris", "ahmad@um.edu.my", LocalDate.of(2000,5,15),true);
@@ -112,8 +112,8 @@ public class Main {
         System.out.println("=== TEST 1: MANUAL TEAM CREATION ===");
 
         // Create categories
-        Category webCategory = new Category(1, "Web Development");
-        Category aiCategory = new Category(2, "Artificial Intelligence");
+        Category webCategory = CategoryRegistry.get("Web Development");
+        Category aiCategory = CategoryRegistry.get("Artificial Intelligence");
 
         // Create competitors
         Competitor leader1 = new Competitor(1001, "John Doe", "john@test.com",
@@ -0,0 +1,61 @@
+import java.lang.ref.SoftReference;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * ReportCache - the last generated text of each report type, tagged with the
+ * TeamList version it was built from
+ * A report is rebuilt only when the list has changed since it was cached.
+ * The caller must read the version before building, so a change made while
+ * a report is being built leaves it tagged with the older version.
+ * Reports longer than MAX_CACHED_LENGTH are never kept, so large lists stay
+ * on the streaming path, and the rest are held through soft references the
+ * collector may clear when memory runs short.
+ */
+public class ReportCache {
+    public static final int MAX_CACHED_LENGTH = 1 << 20;
+
+    private final ConcurrentHashMap<String, CachedReport> reports = new ConcurrentHashMap<>();
+
+    /**
+     * The cached report of this type if it was built at this version, otherwise
+     * a freshly built one, which replaces it in the cache
+     */
+    public String get(String reportType, long version, Supplier<String> builder) {
+        String cached = peek(reportType, version);
+        if (cached != null) {
+            return cached;
+        }
+
+        String content = builder.get();
+        if (content.length() <= MAX_CACHED_LENGTH) {
+            reports.merge(reportType, new CachedReport(version, content),
+                    (old, fresh) -> old.version > fresh.version && old.content.get() != null ? old : fresh);
+        } else {
+            reports.remove(reportType);
+        }
+        return content;
+    }
+
+    /**
+     * The cached report of this type if it was built at this version, or null
+     */
+    public String peek(String reportType, long version) {
+        CachedReport cached = reports.get(reportType);
+        return cached != null && cached.version == version ? cached.content.get() : null;
+    }
+
+    public void clear() {
+        reports.clear();
+    }
+
+    private static final class CachedReport {
+        final long version;
+        final SoftReference<String> content;
+
+        CachedReport(long version, String content) {
+            this.version = version;
+            this.content = new SoftReference<>(content);
+        }
+    }
+}
@@ -0,0 +1,49 @@
+import java.io.*;
+import java.nio.charset.Charset;
+import java.nio.file.*;
+
+/**
+ * ReportFileWriter - writes a report file so that it is either complete and on disk or not there
+ * The report goes to a temporary file beside the target, is forced to the
+ * disk, then moved over the target. A failed or cancelled write removes the
+ * temporary file and leaves any earlier report untouched.
+ */
+public final class ReportFileWriter {
+    /**
+     * Produces the report text
+     */
+    public interface Body {
+        void writeTo(Writer out) throws IOException;
+    }
+
+    private ReportFileWriter() {
+    }
+
+    /**
+     * Write in the platform encoding, the same as FileWriter
+     */
+    public static void write(String filename, Body body) throws IOException {
+        write(filename, Charset.defaultCharset(), body);
+    }
+
+    public static void write(String filename, Charset charset, Body body) throws IOException {
+        Path target = Paths.get(filename).toAbsolutePath();
+        Path temp = target.resolveSibling(target.getFileName() + ".tmp");
+
+        try (FileOutputStream stream = new FileOutputStream(temp.toFile());
+             Writer out = new BufferedWriter(new OutputStreamWriter(stream, charset))) {
+            body.writeTo(out);
+            out.flush();
+            stream.getFD().sync();
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(temp);
+            throw e;
+        }
+
+        try {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(temp, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
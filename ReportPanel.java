@@ -2,14 +2,32 @@ import javax.swing.*;
 import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.ActionListener;
+import java.io.File;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
 
 /**
  * Panel for generating and viewing reports
+ * Reports are generated and saved on background workers, so the window stays
+ * responsive; the progress bar follows the team table and Cancel stops the
+ * running job. The full and final reports appear section by section.
  */
 public class ReportPanel extends JPanel {
     private HackathonController controller;
     private JTextArea reportArea;
     private JComboBox<String> reportTypeComboBox;
+    private JButton generateButton;
+    private JButton saveButton;
+    private JButton cancelButton;
+    private JProgressBar progressBar;
+    // The report or save job running, or null when idle
+    private SwingWorker<?, ?> activeWorker;
+
+    private static final String EXPORT_PREFIX = "Export: ";
 
     public ReportPanel(HackathonController controller) {
         this.controller = controller;
@@ -25,17 +43,24 @@ public class ReportPanel extends JPanel {
         controlPanel.add(new JLabel("Report Type:"));
         reportTypeComboBox = new JComboBox<>(new String[]{
                 "Full Team Report",
+                "Final Report",
                 "Summary Statistics",
+                "Detailed Statistics",
+                "Judge-Normalized Ranking",
                 "Score Frequency",
                 "Highest Scoring Team"
         });
+        // Exports stream to a file rather than into the text area
+        for (TeamExporter exporter : TeamExporter.getAll()) {
+            reportTypeComboBox.addItem(EXPORT_PREFIX + exporter.getName());
+        }
         controlPanel.add(reportTypeComboBox);
 
-        JButton generateButton = new JButton("Generate Report");
+        generateButton = new JButton("Generate Report");
         generateButton.addActionListener(e -> generateReport());
         controlPanel.add(generateButton);
 
-        JButton saveButton = new JButton("Save to File");
+        saveButton = new JButton("Save to File");
         saveButton.addActionListener(e -> saveReportToFile());
         controlPanel.add(saveButton);
 
@@ -43,6 +68,16 @@ public class ReportPanel extends JPanel {
         clearButton.addActionListener(e -> reportArea.setText(""));
         controlPanel.add(clearButton);
 
+        cancelButton = new JButton("Cancel");
+        cancelButton.setEnabled(false);
+        cancelButton.addActionListener(e -> cancelActiveWorker());
+        controlPanel.add(cancelButton);
+
+        progressBar = new JProgressBar(0, 100);
+        progressBar.setStringPainted(true);
+        progressBar.setString("");
+        controlPanel.add(progressBar);
+
         add(controlPanel, BorderLayout.NORTH);
 
         // Report display area
@@ -55,69 +90,249 @@ public class ReportPanel extends JPanel {
 
     private void generateReport() {
         String reportType = (String) reportTypeComboBox.getSelectedItem();
-        String reportContent = "";
+        TeamExporter exporter = selectedExporter();
+        if (exporter != null) {
+            saveToFile(exporter);
+            return;
+        }
+        reportArea.setText("");
+        startWorker(new ReportWorker(reportType));
+    }
 
+    /**
+     * Build the report of this type; runs on the worker thread
+     */
+    private String buildReport(String reportType, ReportWorker worker) {
         switch (reportType) {
             case "Full Team Report":
-                reportContent = controller.generateFullReport();
-                break;
+                return controller.getCachedReport(reportType,
+                        () -> worker.stream(out -> controller.writeFullReport(out, worker)));
+            case "Final Report":
+                return controller.getCachedReport(reportType,
+                        () -> worker.stream(out -> controller.writeFinalReport(out, worker)));
             case "Summary Statistics":
-                reportContent = controller.getSummaryStatistics();
-                break;
+                return controller.getSummaryStatistics();
+            case "Detailed Statistics":
+                return controller.getDetailedStatistics();
+            case "Judge-Normalized Ranking":
+                return controller.getJudgeNormalizedRanking();
             case "Score Frequency":
-                reportContent = generateFrequencyReport();
-                break;
+                return controller.getCachedReport(reportType, this::generateFrequencyReport);
             case "Highest Scoring Team":
-                Team highestTeam = controller.getHighestScoringTeam();
-                if (highestTeam != null) {
-                    reportContent = "=== HIGHEST SCORING TEAM ===\n\n" +
-                            highestTeam.getFullDetails();
-                } else {
-                    reportContent = "No teams available.";
-                }
-                break;
+                return controller.getCachedReport(reportType, this::generateHighestTeamReport);
+            default:
+                return "";
         }
+    }
 
-        reportArea.setText(reportContent);
+    private String generateHighestTeamReport() {
+        Team highestTeam = controller.getHighestScoringTeam();
+        if (highestTeam != null) {
+            return "=== HIGHEST SCORING TEAM ===\n\n" +
+                    highestTeam.getFullDetails();
+        }
+        return "No teams available.";
     }
 
     private String generateFrequencyReport() {
-        // We need to add getScoreFrequency to the controller
-        // For now, let's create a simple implementation
         StringBuilder frequencyReport = new StringBuilder();
         frequencyReport.append("=== SCORE FREQUENCY REPORT ===\n\n");
 
-        // This is a simplified version - you might want to enhance this
-        int[] frequency = new int[6]; // indices 0-5 (we use 1-5)
-
-        for (Team team : controller.getAllTeams()) {
-            for (int score : team.getScoreArray()) {
-                if (score >= 1 && score <= 5) {
-                    frequency[score]++;
-                }
-            }
-        }
+        ScoreHistogram frequency = controller.getScoreFrequency();
 
         frequencyReport.append("Score | Frequency\n");
         frequencyReport.append("------|----------\n");
-        for (int i = 1; i <= 5; i++) {
-            frequencyReport.append(String.format("%5d | %9d\n", i, frequency[i]));
+        for (int i = frequency.getMinScore(); i <= frequency.getMaxScore(); i++) {
+            frequencyReport.append(String.format("%5d | %9d\n", i, frequency.getCount(i)));
         }
 
         return frequencyReport.toString();
     }
 
     private void saveReportToFile() {
+        saveToFile(selectedExporter());
+    }
+
+    /**
+     * The exporter picked in the report type selector, or null for a text report
+     */
+    private TeamExporter selectedExporter() {
+        String reportType = (String) reportTypeComboBox.getSelectedItem();
+        if (reportType == null || !reportType.startsWith(EXPORT_PREFIX)) {
+            return null;
+        }
+        return TeamExporter.forName(reportType.substring(EXPORT_PREFIX.length()));
+    }
+
+    /**
+     * Ask for a file and write the final report, or the export when exporter is not null, to it
+     */
+    private void saveToFile(TeamExporter exporter) {
         JFileChooser fileChooser = new JFileChooser();
-        fileChooser.setDialogTitle("Save Report As");
+        fileChooser.setDialogTitle(exporter == null ? "Save Report As" : "Export " + exporter.getName() + " As");
+        if (exporter != null) {
+            fileChooser.setSelectedFile(new File("teams_export." + exporter.getFileExtension()));
+        }
 
         if (fileChooser.showSaveDialog(this) == JFileChooser.APPROVE_OPTION) {
             String filename = fileChooser.getSelectedFile().getAbsolutePath();
-            controller.writeReportToFile(filename);
-            JOptionPane.showMessageDialog(this,
-                    "Report saved to: " + filename,
-                    "Save Successful",
-                    JOptionPane.INFORMATION_MESSAGE);
+            startWorker(new SaveWorker(filename, exporter));
+        }
+    }
+
+    private void startWorker(SwingWorker<?, ?> worker) {
+        activeWorker = worker;
+        generateButton.setEnabled(false);
+        saveButton.setEnabled(false);
+        cancelButton.setEnabled(true);
+        progressBar.setIndeterminate(true);
+        progressBar.setString("Working...");
+        worker.addPropertyChangeListener(event -> {
+            if ("progress".equals(event.getPropertyName())) {
+                progressBar.setIndeterminate(false);
+                progressBar.setValue((Integer) event.getNewValue());
+            }
+        });
+        worker.execute();
+    }
+
+    private void cancelActiveWorker() {
+        if (activeWorker != null) {
+            activeWorker.cancel(false);
+        }
+    }
+
+    private void workerFinished(String status) {
+        activeWorker = null;
+        generateButton.setEnabled(true);
+        saveButton.setEnabled(true);
+        cancelButton.setEnabled(false);
+        progressBar.setIndeterminate(false);
+        progressBar.setValue(0);
+        progressBar.setString(status);
+    }
+
+    private static String failureMessage(Exception e) {
+        Throwable cause = e instanceof ExecutionException && e.getCause() != null ? e.getCause() : e;
+        return cause.getMessage();
+    }
+
+    /**
+     * Base for the panel's jobs: reports team progress to the progress bar and
+     * stops the writer once Cancel is pressed
+     */
+    private abstract class ProgressWorker<T, V> extends SwingWorker<T, V> implements ReportProgress {
+        @Override
+        public void teamsWritten(int written, int total) {
+            setProgress(total == 0 ? 100 : (int) (written * 100L / total));
+        }
+    }
+
+    /**
+     * Generates a report off the event thread. Streamed reports publish each
+     * section as it is finished, which is appended to the report area.
+     */
+    private class ReportWorker extends ProgressWorker<String, String> {
+        private final String reportType;
+        private StringWriter report;
+        private int published;
+
+        ReportWorker(String reportType) {
+            this.reportType = reportType;
+        }
+
+        /**
+         * Write the report into a string, publishing it section by section
+         */
+        String stream(ReportFileWriter.Body body) {
+            report = new StringWriter();
+            published = 0;
+            try {
+                body.writeTo(report);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e); // StringWriter does not throw
+            }
+            return report.toString();
+        }
+
+        @Override
+        public void sectionFinished(String section) {
+            StringBuffer buffer = report.getBuffer();
+            publish(buffer.substring(published));
+            published = buffer.length();
+        }
+
+        @Override
+        protected String doInBackground() {
+            return buildReport(reportType, this);
+        }
+
+        @Override
+        protected void process(List<String> sections) {
+            if (isCancelled()) return;
+            for (String section : sections) {
+                reportArea.append(section);
+            }
+        }
+
+        @Override
+        protected void done() {
+            try {
+                reportArea.setText(get());
+                reportArea.setCaretPosition(0);
+                workerFinished(reportType + " ready");
+            } catch (CancellationException e) {
+                workerFinished("Cancelled");
+            } catch (InterruptedException | ExecutionException e) {
+                workerFinished("Failed");
+                JOptionPane.showMessageDialog(ReportPanel.this,
+                        "Could not generate report: " + failureMessage(e),
+                        "Report Error",
+                        JOptionPane.ERROR_MESSAGE);
+            }
+        }
+    }
+
+    /**
+     * Writes the final report, or an export, to a file off the event thread
+     */
+    private class SaveWorker extends ProgressWorker<Void, Void> {
+        private final String filename;
+        private final TeamExporter exporter;
+
+        SaveWorker(String filename, TeamExporter exporter) {
+            this.filename = filename;
+            this.exporter = exporter;
+        }
+
+        @Override
+        protected Void doInBackground() throws IOException {
+            if (exporter == null) {
+                controller.writeReportToFile(filename, this);
+            } else {
+                controller.exportToFile(filename, exporter, this);
+            }
+            return null;
+        }
+
+        @Override
+        protected void done() {
+            try {
+                get();
+                workerFinished("Saved");
+                JOptionPane.showMessageDialog(ReportPanel.this,
+                        (exporter == null ? "Report saved to: " : exporter.getName() + " export saved to: ") + filename,
+                        "Save Successful",
+                        JOptionPane.INFORMATION_MESSAGE);
+            } catch (CancellationException e) {
+                workerFinished("Save cancelled");
+            } catch (InterruptedException | ExecutionException e) {
+                workerFinished("Save failed");
+                JOptionPane.showMessageDialog(ReportPanel.this,
+                        "Error writing report to file: " + failureMessage(e),
+                        "Save Failed",
+                        JOptionPane.ERROR_MESSAGE);
+            }
         }
     }
-}
\ No newline at end of file
+}
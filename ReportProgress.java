@@ -0,0 +1,25 @@
+/**
+ * ReportProgress - lets a long report be followed and stopped while it is written
+ * The writer checks isCancelled between teams and stops with a
+ * CancellationException; the callbacks run on the writing thread.
+ */
+public interface ReportProgress {
+    ReportProgress NONE = new ReportProgress() {
+    };
+
+    default boolean isCancelled() {
+        return false;
+    }
+
+    /**
+     * Called every so often while the team table is written, and once it is complete
+     */
+    default void teamsWritten(int written, int total) {
+    }
+
+    /**
+     * Called after a section has been written and the writer flushed
+     */
+    default void sectionFinished(String section) {
+    }
+}
@@ -0,0 +1,51 @@
+import java.util.Random;
+
+/**
+ * ReportRenderBenchmark - times the full team report, sequential against parallel rendering
+ * Builds a synthetic team list, renders the full report both ways and checks
+ * that the two texts are identical.
+ * Usage: java ReportRenderBenchmark [teams] [rounds]
+ */
+public class ReportRenderBenchmark {
+    public static void main(String[] args) {
+        int teamCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Category category = CategoryRegistry.get("Web Development");
+        Random random = new Random(11);
+        TeamList teamList = new TeamList();
+        for (int i = 0; i < teamCount; i++) {
+            int[] scores = new int[5];
+            for (int j = 0; j < scores.length; j++) {
+                scores[j] = 1 + random.nextInt(5);
+            }
+            teamList.addTeam(new WebDevelopmentTeam(100 + i, "Team " + i, "University " + random.nextInt(60),
+                    category, null, new Competitor[0], scores));
+        }
+        System.out.printf("Built %d teams (%d cores)%n%n", teamCount, Runtime.getRuntime().availableProcessors());
+
+        for (int round = 1; round <= rounds; round++) {
+            long start = System.nanoTime();
+            String sequential = teamList.generateFullReport();
+            long sequentialNanos = System.nanoTime() - start;
+
+            start = System.nanoTime();
+            String parallel = teamList.generateFullReportParallel();
+            long parallelNanos = System.nanoTime() - start;
+
+            if (!sequential.equals(parallel)) {
+                throw new IllegalStateException("Parallel report differs from the sequential report");
+            }
+
+            System.out.println("=== ROUND " + round + " ===");
+            report("Sequential", teamCount, sequentialNanos);
+            report("Parallel  ", teamCount, parallelNanos);
+            System.out.printf("Speed-up: %.2fx (%.1f MB of text)%n%n",
+                    (double) sequentialNanos / parallelNanos, sequential.length() / (1024.0 * 1024.0));
+        }
+    }
+
+    private static void report(String name, int teams, long nanos) {
+        System.out.printf("%s: %8.1f ms  %12.0f teams/s%n", name, nanos / 1e6, teams / (nanos / 1e9));
+    }
+}
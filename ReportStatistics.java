@@ -0,0 +1,201 @@
+import java.util.*;
+
+/**
+ * ReportStatistics - every figure the reports print, gathered in one pass
+ * Each team's scores and overall score are read once (Team.snapshotScores),
+ * so all sections of a report come from the same consistent values.
+ * Overall scores are accumulated in tenths to keep sums exact.
+ */
+public class ReportStatistics {
+    private final boolean keepOverallScores;
+
+    private int teamCount;
+    private long tenthsSum;
+    private long tenthsSquareSum;
+    private long individualScoreCount;
+    private final ScoreHistogram frequency;
+
+    private Team.ScoreSnapshot highest;
+    private Team.ScoreSnapshot lowest;
+
+    // Overall scores in tenths, only kept when the median is wanted
+    private long[] overallTenths;
+
+    private final Map<Category, CategoryBreakdown> categories = new HashMap<>();
+
+    /**
+     * @param keepOverallScores keep every overall score so the median can be found;
+     *                          without it the accumulator uses constant memory
+     */
+    public ReportStatistics(boolean keepOverallScores) {
+        this(keepOverallScores, TeamStatistics.MIN_SCORE, TeamStatistics.MAX_SCORE);
+    }
+
+    /**
+     * @param minScore lowest individual score counted in the frequency table
+     * @param maxScore highest individual score counted in the frequency table
+     */
+    public ReportStatistics(boolean keepOverallScores, int minScore, int maxScore) {
+        this.keepOverallScores = keepOverallScores;
+        this.frequency = new ScoreHistogram(minScore, maxScore);
+        this.overallTenths = keepOverallScores ? new long[16] : null;
+    }
+
+    /**
+     * Snapshot each team once and gather all statistics in a single sweep
+     */
+    public static ReportStatistics compute(List<Team> teams, int minScore, int maxScore) {
+        ReportStatistics statistics = new ReportStatistics(true, minScore, maxScore);
+        for (Team team : teams) {
+            statistics.accept(team.snapshotScores());
+        }
+        return statistics;
+    }
+
+    /**
+     * Add one team's snapshot. Teams must be given in list order so that ties
+     * for highest and lowest go to the first team, as in the original report.
+     */
+    public void accept(Team.ScoreSnapshot snapshot) {
+        double overall = snapshot.getOverallScore();
+        long tenths = Math.round(overall * 10);
+
+        if (highest == null || overall > highest.getOverallScore()) {
+            highest = snapshot;
+        }
+        if (lowest == null || overall < lowest.getOverallScore()) {
+            lowest = snapshot;
+        }
+
+        if (keepOverallScores) {
+            if (teamCount == overallTenths.length) {
+                overallTenths = Arrays.copyOf(overallTenths, teamCount * 2);
+            }
+            overallTenths[teamCount] = tenths;
+        }
+
+        teamCount++;
+        tenthsSum += tenths;
+        tenthsSquareSum += tenths * tenths;
+
+        int[] scores = snapshot.getScores();
+        individualScoreCount += scores.length;
+        frequency.addAll(scores);
+
+        categories.computeIfAbsent(snapshot.getTeam().getCategory(), CategoryBreakdown::new).add(overall, tenths);
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Mean overall score rounded to one decimal place, or 0 with no teams
+     */
+    public double getAverageOverallScore() {
+        if (teamCount == 0) return 0;
+        return Math.floorDiv(2 * tenthsSum + teamCount, 2L * teamCount) / 10.0;
+    }
+
+    public double getMaxOverallScore() {
+        return highest == null ? 0 : highest.getOverallScore();
+    }
+
+    public double getMinOverallScore() {
+        return lowest == null ? 0 : lowest.getOverallScore();
+    }
+
+    /**
+     * First team in list order with the highest overall score, or null
+     */
+    public Team.ScoreSnapshot getHighest() {
+        return highest;
+    }
+
+    /**
+     * First team in list order with the lowest overall score, or null
+     */
+    public Team.ScoreSnapshot getLowest() {
+        return lowest;
+    }
+
+    public long getIndividualScoreCount() {
+        return individualScoreCount;
+    }
+
+    public long getFrequency(int score) {
+        return frequency.getCount(score);
+    }
+
+    public ScoreHistogram getScoreFrequency() {
+        return frequency;
+    }
+
+    /**
+     * Population standard deviation of the overall scores
+     */
+    public double getStandardDeviation() {
+        if (teamCount == 0) return 0;
+        double meanTenths = (double) tenthsSum / teamCount;
+        double variance = (double) tenthsSquareSum / teamCount - meanTenths * meanTenths;
+        return Math.sqrt(Math.max(0, variance)) / 10.0;
+    }
+
+    /**
+     * Median overall score; needs an accumulator created with keepOverallScores
+     */
+    public double getMedianOverallScore() {
+        if (!keepOverallScores) {
+            throw new IllegalStateException("Overall scores were not kept for the median");
+        }
+        if (teamCount == 0) return 0;
+        long[] sorted = Arrays.copyOf(overallTenths, teamCount);
+        Arrays.sort(sorted);
+        int middle = teamCount / 2;
+        if (teamCount % 2 == 1) {
+            return sorted[middle] / 10.0;
+        }
+        return (sorted[middle - 1] + sorted[middle]) / 20.0;
+    }
+
+    /**
+     * Per-category figures in category ID order
+     */
+    public List<CategoryBreakdown> getCategoryBreakdowns() {
+        List<CategoryBreakdown> breakdowns = new ArrayList<>(categories.values());
+        breakdowns.sort((b1, b2) -> Integer.compare(b1.category.getCategoryID(), b2.category.getCategoryID()));
+        return breakdowns;
+    }
+
+    /**
+     * Team count and overall score range and mean for one category
+     */
+    public static class CategoryBreakdown {
+        private final Category category;
+        private int teamCount;
+        private long tenthsSum;
+        private double min;
+        private double max;
+
+        CategoryBreakdown(Category category) {
+            this.category = category;
+        }
+
+        void add(double overall, long tenths) {
+            if (teamCount == 0 || overall < min) min = overall;
+            if (teamCount == 0 || overall > max) max = overall;
+            teamCount++;
+            tenthsSum += tenths;
+        }
+
+        public Category getCategory() { return category; }
+        public int getTeamCount() { return teamCount; }
+        public double getMinOverallScore() { return min; }
+        public double getMaxOverallScore() { return max; }
+
+        public double getAverageOverallScore() {
+            if (teamCount == 0) return 0;
+            return Math.floorDiv(2 * tenthsSum + teamCount, 2L * teamCount) / 10.0;
+        }
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * RunningStatistics - mean and variance of a stream of values, updated one value at a time
+ * Uses Welford's online algorithm, which stays accurate where the naive
+ * sum-of-squares formula loses precision. A value can also be taken back
+ * out (e.g. when a judge resubmits), reversing the same update.
+ */
+public class RunningStatistics {
+    private long count;
+    private double mean;
+    // Sum of squared differences from the current mean
+    private double m2;
+
+    public synchronized void add(double value) {
+        count++;
+        double delta = value - mean;
+        mean += delta / count;
+        m2 += delta * (value - mean);
+    }
+
+    /**
+     * Remove a value that was previously added
+     */
+    public synchronized void remove(double value) {
+        if (count <= 1) {
+            count = 0;
+            mean = 0;
+            m2 = 0;
+            return;
+        }
+        double delta = value - mean;
+        count--;
+        mean -= delta / count;
+        m2 -= delta * (value - mean);
+        if (m2 < 0) {
+            m2 = 0; // rounding can leave a tiny negative remainder
+        }
+    }
+
+    public synchronized long getCount() {
+        return count;
+    }
+
+    public synchronized double getMean() {
+        return mean;
+    }
+
+    /**
+     * Population variance, or 0 with fewer than two values
+     */
+    public synchronized double getVariance() {
+        return count < 2 ? 0 : m2 / count;
+    }
+
+    public synchronized double getStandardDeviation() {
+        return Math.sqrt(getVariance());
+    }
+}
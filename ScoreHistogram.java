@@ -0,0 +1,153 @@
+/**
+ * ScoreHistogram - count of each individual score value over a fixed range
+ * Backed by a primitive array indexed by score, so counting never boxes.
+ * Scores outside the range are not counted. Partial histograms built by
+ * separate workers can be combined with merge.
+ */
+public class ScoreHistogram {
+    public static final int DEFAULT_MIN_SCORE = 1;
+    public static final int DEFAULT_MAX_SCORE = 5;
+
+    private final int minScore;
+    private final int maxScore;
+    private final long[] counts;
+
+    public ScoreHistogram() {
+        this(DEFAULT_MIN_SCORE, DEFAULT_MAX_SCORE);
+    }
+
+    public ScoreHistogram(int minScore, int maxScore) {
+        if (minScore > maxScore) {
+            throw new IllegalArgumentException("Invalid score range " + minScore + " to " + maxScore);
+        }
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.counts = new long[maxScore - minScore + 1];
+    }
+
+    /**
+     * A histogram with the same range and counts as this one
+     */
+    public ScoreHistogram copy() {
+        ScoreHistogram copy = new ScoreHistogram(minScore, maxScore);
+        System.arraycopy(counts, 0, copy.counts, 0, counts.length);
+        return copy;
+    }
+
+    public int getMinScore() {
+        return minScore;
+    }
+
+    public int getMaxScore() {
+        return maxScore;
+    }
+
+    public boolean inRange(int score) {
+        return score >= minScore && score <= maxScore;
+    }
+
+    public void add(int score) {
+        if (inRange(score)) {
+            counts[score - minScore]++;
+        }
+    }
+
+    public void remove(int score) {
+        if (inRange(score)) {
+            counts[score - minScore]--;
+        }
+    }
+
+    /**
+     * Count every score in the array
+     */
+    public void addAll(int[] scores) {
+        if (scores == null) return;
+        addAll(scores, 0, scores.length);
+    }
+
+    /**
+     * Count the scores at data[offset .. offset + length), e.g. one ScoreStore slot
+     */
+    public void addAll(int[] data, int offset, int length) {
+        long[] counts = this.counts;
+        int minScore = this.minScore;
+        int width = counts.length;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            // One unsigned comparison covers both ends of the range
+            int index = data[i] - minScore;
+            if (Integer.compareUnsigned(index, width) < 0) {
+                counts[index]++;
+            }
+        }
+    }
+
+    /**
+     * Take back scores previously counted with addAll
+     */
+    public void removeAll(int[] scores) {
+        if (scores == null) return;
+        removeAll(scores, 0, scores.length);
+    }
+
+    public void removeAll(int[] data, int offset, int length) {
+        long[] counts = this.counts;
+        int minScore = this.minScore;
+        int width = counts.length;
+        for (int i = offset, end = offset + length; i < end; i++) {
+            int index = data[i] - minScore;
+            if (Integer.compareUnsigned(index, width) < 0) {
+                counts[index]--;
+            }
+        }
+    }
+
+    /**
+     * Add the counts of another histogram over the same range
+     */
+    public void merge(ScoreHistogram other) {
+        if (other.minScore != minScore || other.maxScore != maxScore) {
+            throw new IllegalArgumentException("Cannot merge histograms over different score ranges");
+        }
+        for (int i = 0; i < counts.length; i++) {
+            counts[i] += other.counts[i];
+        }
+    }
+
+    public void clear() {
+        java.util.Arrays.fill(counts, 0);
+    }
+
+    /**
+     * How many times the score was counted; 0 for scores outside the range
+     */
+    public long getCount(int score) {
+        return inRange(score) ? counts[score - minScore] : 0;
+    }
+
+    /**
+     * Total of all counts, i.e. the number of in-range scores
+     */
+    public long getTotal() {
+        long total = 0;
+        for (long count : counts) {
+            total += count;
+        }
+        return total;
+    }
+
+    /**
+     * Same layout as the Map the frequency report used to return, e.g. {1=3, 2=0}
+     */
+    @Override
+    public String toString() {
+        StringBuilder text = new StringBuilder("{");
+        for (int score = minScore; score <= maxScore; score++) {
+            if (score > minScore) {
+                text.append(", ");
+            }
+            text.append(score).append('=').append(counts[score - minScore]);
+        }
+        return text.append('}').toString();
+    }
+}
@@ -0,0 +1,184 @@
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * ScoreRangeIndex - teams ordered by overall score for threshold queries
+ * Overall scores are rounded to one decimal place, so each team is keyed by
+ * its score in tenths together with its position in the list's order.
+ * Iteration runs from the highest score down, ties in list order (so the
+ * first team in the list wins a tie, as in the original reports), and a
+ * range query costs O(log n + k).
+ * Positions come from a counter, so removing a team leaves the others in
+ * order; after the list is re-sorted, reorder renumbers every team.
+ * The key a team was inserted under is kept on the team (Team.scoreKey) and
+ * removal always uses it, never a recomputed score, so a team is found even
+ * when its overall score has moved since, e.g. under new scoring rules.
+ * Callers hold the owning list's lock, which also guards Team.scoreKey.
+ */
+public class ScoreRangeIndex {
+    private final TreeMap<Long, Team> index = new TreeMap<>();
+    // Position given to the next team added, i.e. after every indexed team
+    private int nextPosition;
+
+    /**
+     * Index a team added at the end of the list under its current overall
+     * score. Returns that score in tenths, exactly as it was keyed.
+     */
+    public int add(Team team) {
+        if (nextPosition == Integer.MAX_VALUE) {
+            renumber();
+        }
+        int tenths = (int) Math.round(team.getOverallScore() * 10);
+        put(team, tenths, nextPosition++);
+        return tenths;
+    }
+
+    /**
+     * Remove the team from the key it was added under. Returns the overall
+     * score in tenths it was indexed with.
+     */
+    public int remove(Team team) {
+        long key = team.scoreKey;
+        index.remove(key);
+        return tenthsOf(key);
+    }
+
+    /**
+     * Re-key a team whose overall score changed, keeping its place in list
+     * order. Returns the new score in tenths.
+     */
+    public int rescore(Team team) {
+        int position = positionOf(team.scoreKey);
+        index.remove(team.scoreKey);
+        int tenths = (int) Math.round(team.getOverallScore() * 10);
+        put(team, tenths, position);
+        return tenths;
+    }
+
+    /**
+     * Overall score in tenths the team is indexed with
+     */
+    public int indexedTenths(Team team) {
+        return tenthsOf(team.scoreKey);
+    }
+
+    /**
+     * Give the teams the positions of their new list order, keeping the
+     * scores they are indexed with. The list must hold exactly the indexed teams.
+     */
+    public void reorder(List<Team> teams) {
+        index.clear();
+        int position = 0;
+        for (Team team : teams) {
+            put(team, tenthsOf(team.scoreKey), position++);
+        }
+        nextPosition = position;
+    }
+
+    public int size() {
+        return index.size();
+    }
+
+    public void clear() {
+        index.clear();
+        nextPosition = 0;
+    }
+
+    /**
+     * Teams with overall score >= minScore, highest first
+     */
+    public ArrayList<Team> atLeast(double minScore) {
+        int lowest = tenthsAtLeast(minScore);
+        return new ArrayList<>(index.headMap(key(lowest, Integer.MAX_VALUE), true).values());
+    }
+
+    /**
+     * Teams with minScore <= overall score <= maxScore, highest first
+     */
+    public ArrayList<Team> between(double minScore, double maxScore) {
+        int lowest = tenthsAtLeast(minScore);
+        int highest = tenthsAtMost(maxScore);
+        if (lowest > highest) {
+            return new ArrayList<>();
+        }
+        return new ArrayList<>(index.subMap(key(highest, 0), true,
+                key(lowest, Integer.MAX_VALUE), true).values());
+    }
+
+    /**
+     * Team with the highest overall score (first in list order on ties), or null
+     */
+    public Team highest() {
+        Map.Entry<Long, Team> entry = index.firstEntry();
+        return entry == null ? null : entry.getValue();
+    }
+
+    /**
+     * Team with the lowest overall score (first in list order on ties), or null
+     */
+    public Team lowest() {
+        Map.Entry<Long, Team> last = index.lastEntry();
+        if (last == null) {
+            return null;
+        }
+        return index.ceilingEntry(key(tenthsOf(last.getKey()), 0)).getValue();
+    }
+
+    private void put(Team team, int tenths, int position) {
+        long key = key(tenths, position);
+        index.put(key, team);
+        team.scoreKey = key;
+    }
+
+    /**
+     * Close the gaps left by removed teams once the position counter runs out
+     */
+    private void renumber() {
+        ArrayList<Team> inOrder = new ArrayList<>(index.values());
+        inOrder.sort((t1, t2) -> Integer.compare(positionOf(t1.scoreKey), positionOf(t2.scoreKey)));
+        reorder(inOrder);
+    }
+
+    // Keys: negated score in tenths in the high half so ascending keys mean
+    // descending scores, list position (never negative) in the low half
+
+    private static long key(int tenths, int position) {
+        return ((long) -tenths << 32) | position;
+    }
+
+    private static int tenthsOf(long key) {
+        return -(int) (key >> 32);
+    }
+
+    private static int positionOf(long key) {
+        return (int) key;
+    }
+
+    /**
+     * Smallest score in tenths whose value is >= minScore, using the same
+     * double comparison as score >= minScore
+     */
+    private static int tenthsAtLeast(double minScore) {
+        int tenths = (int) Math.floor(minScore * 10);
+        while (tenths / 10.0 < minScore) {
+            tenths++;
+        }
+        while ((tenths - 1) / 10.0 >= minScore) {
+            tenths--;
+        }
+        return tenths;
+    }
+
+    private static int tenthsAtMost(double maxScore) {
+        int tenths = (int) Math.ceil(maxScore * 10);
+        while (tenths / 10.0 > maxScore) {
+            tenths--;
+        }
+        while ((tenths + 1) / 10.0 <= maxScore) {
+            tenths++;
+        }
+        return tenths;
+    }
+}
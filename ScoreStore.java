@@ -0,0 +1,215 @@
+import java.util.Arrays;
+
+/**
+ * ScoreStore - the scores of every team in a TeamList in one int array
+ * Each team owns a fixed-width slot (stride ints) of the shared array plus
+ * its score count, so a full-population scan is one sequential sweep rather
+ * than a pointer chase to a separate int[] per team. Removing a team moves
+ * the last slot into its place, keeping the slots packed.
+ * The store also keeps a running count of every stored score and of each
+ * score value, adjusted whenever a slot is filled, rewritten or freed, so
+ * the frequency report and score count never need a sweep.
+ * All access is synchronized on the store; Team.scoreSlot is only read or
+ * written while holding that lock.
+ */
+public class ScoreStore {
+    private static final int MIN_CAPACITY = 16;
+    public static final int DEFAULT_STRIDE = 5;
+    // Score count recorded for a team whose scores are null
+    private static final int NO_SCORES = -1;
+
+    private int stride;
+    private int[] data;
+    private int[] lengths;
+    private Team[] owners;
+    private int size;
+
+    // Running totals over every stored score
+    private final ScoreHistogram frequency;
+    private long scoreCount;
+
+    /**
+     * Receives each slot of a sweep: the team and its scores at data[offset .. offset + length)
+     */
+    public interface SlotVisitor {
+        void visit(Team team, int[] data, int offset, int length);
+    }
+
+    public ScoreStore() {
+        this(DEFAULT_STRIDE, MIN_CAPACITY);
+    }
+
+    public ScoreStore(int stride, int expectedTeams) {
+        this(stride, expectedTeams, ScoreHistogram.DEFAULT_MIN_SCORE, ScoreHistogram.DEFAULT_MAX_SCORE);
+    }
+
+    /**
+     * @param minScore lowest score value counted in the running frequency
+     * @param maxScore highest score value counted in the running frequency
+     */
+    public ScoreStore(int stride, int expectedTeams, int minScore, int maxScore) {
+        this.frequency = new ScoreHistogram(minScore, maxScore);
+        this.stride = Math.max(1, stride);
+        int capacity = Math.max(MIN_CAPACITY, expectedTeams);
+        this.data = new int[capacity * this.stride];
+        this.lengths = new int[capacity];
+        this.owners = new Team[capacity];
+    }
+
+    public synchronized int size() {
+        return size;
+    }
+
+    /**
+     * Give the team the next slot, holding a copy of the scores
+     */
+    synchronized void add(Team team, int[] scores) {
+        if (size == owners.length) {
+            grow(owners.length * 2);
+        }
+        int slot = size++;
+        owners[slot] = team;
+        team.scoreSlot = slot;
+        store(slot, scores);
+        count(slot);
+    }
+
+    /**
+     * Free the team's slot and return its scores
+     */
+    synchronized int[] remove(Team team) {
+        int slot = team.scoreSlot;
+        int[] scores = load(slot);
+        uncount(slot);
+
+        int last = --size;
+        if (slot != last) {
+            System.arraycopy(data, last * stride, data, slot * stride, stride);
+            lengths[slot] = lengths[last];
+            owners[slot] = owners[last];
+            owners[slot].scoreSlot = slot;
+        }
+        owners[last] = null;
+        team.scoreSlot = -1;
+        return scores;
+    }
+
+    /**
+     * Copy of the team's scores
+     */
+    synchronized int[] read(Team team) {
+        return load(team.scoreSlot);
+    }
+
+    synchronized void write(Team team, int[] scores) {
+        int slot = team.scoreSlot;
+        uncount(slot);
+        store(slot, scores);
+        count(slot);
+    }
+
+    /**
+     * Score the team's slot in place, rounded to one decimal place
+     */
+    synchronized double score(Team team, ScoringPolicy policy) {
+        int slot = team.scoreSlot;
+        int length = lengths[slot];
+        return length == NO_SCORES ? 0 : ScoringKernel.overallScore(policy, data, slot * stride, length);
+    }
+
+    /**
+     * Call the visitor for every slot in slot order. The visitor runs under the
+     * store's lock, so it must not call back into the teams' score methods.
+     */
+    public synchronized void forEach(SlotVisitor visitor) {
+        for (int slot = 0; slot < size; slot++) {
+            int length = lengths[slot];
+            visitor.visit(owners[slot], data, slot * stride, length == NO_SCORES ? 0 : length);
+        }
+    }
+
+    /**
+     * Count every stored score into the histogram in one pass over the array
+     */
+    public synchronized void countScores(ScoreHistogram histogram) {
+        int[] data = this.data;
+        for (int slot = 0, offset = 0; slot < size; slot++, offset += stride) {
+            int length = lengths[slot];
+            if (length != NO_SCORES) {
+                histogram.addAll(data, offset, length);
+            }
+        }
+    }
+
+    /**
+     * Copy of the running count of each score value, in O(score range)
+     */
+    public synchronized ScoreHistogram getScoreFrequency() {
+        return frequency.copy();
+    }
+
+    /**
+     * Number of individual scores stored, kept as a running total
+     */
+    public synchronized long getScoreCount() {
+        return scoreCount;
+    }
+
+    // Add the slot's scores to, or take them out of, the running totals
+
+    private void count(int slot) {
+        int length = lengths[slot];
+        if (length != NO_SCORES) {
+            frequency.addAll(data, slot * stride, length);
+            scoreCount += length;
+        }
+    }
+
+    private void uncount(int slot) {
+        int length = lengths[slot];
+        if (length != NO_SCORES) {
+            frequency.removeAll(data, slot * stride, length);
+            scoreCount -= length;
+        }
+    }
+
+    private int[] load(int slot) {
+        int length = lengths[slot];
+        if (length == NO_SCORES) {
+            return null;
+        }
+        int offset = slot * stride;
+        return Arrays.copyOfRange(data, offset, offset + length);
+    }
+
+    private void store(int slot, int[] scores) {
+        if (scores == null) {
+            lengths[slot] = NO_SCORES;
+            return;
+        }
+        if (scores.length > stride) {
+            widen(scores.length);
+        }
+        System.arraycopy(scores, 0, data, slot * stride, scores.length);
+        lengths[slot] = scores.length;
+    }
+
+    private void grow(int capacity) {
+        data = Arrays.copyOf(data, capacity * stride);
+        lengths = Arrays.copyOf(lengths, capacity);
+        owners = Arrays.copyOf(owners, capacity);
+    }
+
+    /**
+     * Re-lay every slot at a wider stride for a team with more scores than fit
+     */
+    private void widen(int newStride) {
+        int capacity = owners.length;
+        int[] wider = new int[capacity * newStride];
+        for (int slot = 0; slot < size; slot++) {
+            System.arraycopy(data, slot * stride, wider, slot * newStride, stride);
+        }
+        data = wider;
+        stride = newStride;
+    }
+}
@@ -0,0 +1,112 @@
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * ScoreStoreBenchmark - full-population score scans, per-team arrays against the ScoreStore
+ * Builds the same teams twice: once left standalone, each holding its own
+ * int[], and once added to a TeamList so their scores live in its ScoreStore.
+ * Then times a frequency count over every team both ways, and rescoring
+ * every team one at a time against ScoringKernel.scoreAll. A warm-up round
+ * is run first and not reported; the median speed-up of the timed rounds
+ * is printed at the end.
+ * Usage: java ScoreStoreBenchmark [teams] [rounds]
+ */
+public class ScoreStoreBenchmark {
+    private static final int SCORES_PER_TEAM = 5;
+
+    public static void main(String[] args) {
+        int teamCount = args.length > 0 ? Integer.parseInt(args[0]) : 1_000_000;
+        int rounds = args.length > 1 ? Integer.parseInt(args[1]) : 5;
+
+        Category category = CategoryRegistry.get("Web Development");
+        Random random = new Random(42);
+        List<Team> standalone = new ArrayList<>(teamCount);
+        TeamList teamList = new TeamList();
+        for (int i = 0; i < teamCount; i++) {
+            int[] scores = new int[SCORES_PER_TEAM];
+            for (int j = 0; j < scores.length; j++) {
+                scores[j] = 1 + random.nextInt(5);
+            }
+            // Interleave the allocations as a real load would, so the standalone arrays are spread out
+            Competitor leader = new Competitor(10000 + i, "Leader " + i, "leader" + i + "@uni.edu.my", null, true);
+            standalone.add(new WebDevelopmentTeam(100 + i, "Team " + i, "University", category,
+                    leader, new Competitor[0], scores));
+            teamList.addTeam(new WebDevelopmentTeam(100 + i, "Team " + i, "University", category,
+                    leader, new Competitor[0], scores.clone()));
+        }
+        ScoreStore store = teamList.getScoreStore();
+        System.out.printf("Built %d teams with %d scores each%n%n", teamCount, SCORES_PER_TEAM);
+
+        // The first round only warms up the JIT; the rest are timed
+        double[] scanSpeedUps = new double[rounds];
+        double[] rescoreSpeedUps = new double[rounds];
+        for (int round = 0; round <= rounds; round++) {
+            ScoreHistogram objectHistogram = new ScoreHistogram();
+            long start = System.nanoTime();
+            for (Team team : standalone) {
+                objectHistogram.addAll(team.getScoreArray());
+            }
+            long objectNanos = System.nanoTime() - start;
+
+            ScoreHistogram storeHistogram = new ScoreHistogram();
+            start = System.nanoTime();
+            store.countScores(storeHistogram);
+            long storeNanos = System.nanoTime() - start;
+
+            if (!objectHistogram.toString().equals(storeHistogram.toString())) {
+                throw new IllegalStateException("Scans disagree: " + objectHistogram + " vs " + storeHistogram);
+            }
+
+            Team.scoringRulesChanged();
+            start = System.nanoTime();
+            double objectTotal = 0;
+            for (Team team : standalone) {
+                objectTotal += team.getOverallScore();
+            }
+            long perTeamNanos = System.nanoTime() - start;
+
+            Team.scoringRulesChanged();
+            start = System.nanoTime();
+            ScoringKernel.scoreAll(store);
+            long bulkNanos = System.nanoTime() - start;
+
+            double storeTotal = 0;
+            for (Team team : teamList.getAllTeams()) {
+                storeTotal += team.getOverallScore();
+            }
+            if (objectTotal != storeTotal) {
+                throw new IllegalStateException("Rescoring disagrees: " + objectTotal + " vs " + storeTotal);
+            }
+
+            if (round == 0) {
+                continue;
+            }
+            scanSpeedUps[round - 1] = (double) objectNanos / storeNanos;
+            rescoreSpeedUps[round - 1] = (double) perTeamNanos / bulkNanos;
+
+            System.out.println("=== ROUND " + round + " ===");
+            report("Per-team int[] arrays", teamCount, objectNanos);
+            report("Columnar ScoreStore  ", teamCount, storeNanos);
+            System.out.printf("Speed-up: %.2fx%n", scanSpeedUps[round - 1]);
+            report("Rescore team by team ", teamCount, perTeamNanos);
+            report("Bulk ScoringKernel   ", teamCount, bulkNanos);
+            System.out.printf("Speed-up: %.2fx%n%n", rescoreSpeedUps[round - 1]);
+        }
+
+        System.out.printf("Median frequency scan speed-up: %.2fx%n", median(scanSpeedUps));
+        System.out.printf("Median rescoring speed-up:      %.2fx%n", median(rescoreSpeedUps));
+    }
+
+    private static double median(double[] values) {
+        double[] sorted = values.clone();
+        Arrays.sort(sorted);
+        int middle = sorted.length / 2;
+        return sorted.length % 2 == 1 ? sorted[middle] : (sorted[middle - 1] + sorted[middle]) / 2;
+    }
+
+    private static void report(String name, int teams, long nanos) {
+        System.out.printf("%s: %8.1f ms  %12.0f teams/s%n", name, nanos / 1e6, teams / (nanos / 1e9));
+    }
+}
@@ -0,0 +1,93 @@
+/**
+ * ScoringKernel - the loops behind the scoring policies, over a score range
+ * Single-team scoring and the bulk pass over a ScoreStore both go through
+ * these methods, so they always agree to the bit. Sums are taken in index
+ * order, as the original formulas did; floating-point addition is not
+ * associative, so the loops are kept scalar.
+ */
+public final class ScoringKernel {
+    // Per-thread work array for policies that look at the scores in sorted order
+    private static final ThreadLocal<int[]> scratch = ThreadLocal.withInitial(() -> new int[16]);
+
+    private ScoringKernel() {
+    }
+
+    /**
+     * Weighted average rounded to one decimal place, 0 with no scores.
+     * totalWeights[n] must be the total of the first n weights summed in order;
+     * scores beyond the last weight get weight 1.0.
+     */
+    public static double weightedAverage(int[] data, int offset, int length,
+                                         double[] weights, double[] totalWeights) {
+        if (length == 0) return 0;
+        double sum = 0;
+        int weighted = Math.min(length, weights.length);
+        for (int i = 0; i < weighted; i++) {
+            sum += data[offset + i] * weights[i];
+        }
+        double totalWeight = totalWeights[weighted];
+        for (int i = weighted; i < length; i++) {
+            sum += data[offset + i] * 1.0;
+            totalWeight += 1.0;
+        }
+        return Math.round((sum / totalWeight) * 10) / 10.0;
+    }
+
+    /**
+     * Simple average rounded to one decimal place, 0 with no scores
+     */
+    public static double simpleAverage(int[] data, int offset, int length) {
+        if (length == 0) return 0;
+        double sum = 0;
+        for (int i = 0; i < length; i++) {
+            sum += data[offset + i];
+        }
+        return Math.round((sum / length) * 10) / 10.0;
+    }
+
+    /**
+     * Average of the scores ranked from (inclusive) to to (exclusive) in
+     * ascending order, rounded to one decimal place
+     */
+    public static double sortedRangeAverage(int[] data, int offset, int length, int from, int to) {
+        if (from >= to) return 0;
+        int[] sorted = scratch.get();
+        if (sorted.length < length) {
+            sorted = new int[Math.max(length, sorted.length * 2)];
+            scratch.set(sorted);
+        }
+        // Insertion sort: score lists are a handful of judges long
+        for (int i = 0; i < length; i++) {
+            int score = data[offset + i];
+            int j = i - 1;
+            while (j >= 0 && sorted[j] > score) {
+                sorted[j + 1] = sorted[j];
+                j--;
+            }
+            sorted[j + 1] = score;
+        }
+        double sum = 0;
+        for (int i = from; i < to; i++) {
+            sum += sorted[i];
+        }
+        return Math.round((sum / (to - from)) * 10) / 10.0;
+    }
+
+    /**
+     * Score with the policy and round the result to one decimal place, as every
+     * overall score is stored, indexed and summed. Built-in policies already
+     * round, so for them this returns their result unchanged.
+     */
+    public static double overallScore(ScoringPolicy policy, int[] data, int offset, int length) {
+        return Math.round(policy.score(data, offset, length) * 10) / 10.0;
+    }
+
+    /**
+     * Score every team in the store with its policy and cache the results on the teams
+     */
+    public static void scoreAll(ScoreStore store) {
+        int rules = Team.getRulesVersion();
+        store.forEach((team, data, offset, length) ->
+                team.cacheOverallScore(rules, overallScore(ScoringPolicyRegistry.policyFor(team), data, offset, length)));
+    }
+}
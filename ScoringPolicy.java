@@ -0,0 +1,18 @@
+/**
+ * ScoringPolicy - turns a team's individual scores into its overall score
+ * The scores are read in place from data[offset .. offset + length), so a
+ * policy can score straight out of a ScoreStore slot. Implementations must
+ * not allocate per call and must return 0 when there are no scores.
+ * Overall scores are kept to one decimal place: the score index and running
+ * totals key on tenths. Whatever a policy returns is rounded half up to one
+ * decimal place (ScoringKernel.overallScore) before it is cached, so a
+ * policy should round its own result the same way, as the built-in ones do.
+ */
+public interface ScoringPolicy {
+    double score(int[] data, int offset, int length);
+
+    /**
+     * Short description for menus and reports, e.g. "Trimmed mean (1 each end)"
+     */
+    String getDescription();
+}
@@ -0,0 +1,51 @@
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * ScoringPolicyRegistry - scoring policy chosen for each category
+ * A category with no registered policy is scored by its team type's
+ * default (weighted average for AITeam, simple average otherwise).
+ * Registering or clearing a policy invalidates every cached overall score;
+ * TeamList.setScoringPolicy also re-ranks the list in one bulk pass; any
+ * other list re-ranks itself the next time its score index is used.
+ */
+public class ScoringPolicyRegistry {
+    public static final ScoringPolicy WEIGHTED_AVERAGE = new WeightedAveragePolicy(0.15, 0.25, 0.20, 0.25, 0.15);
+    public static final ScoringPolicy SIMPLE_AVERAGE = new SimpleAveragePolicy();
+
+    private static final ConcurrentHashMap<Category, ScoringPolicy> policies = new ConcurrentHashMap<>();
+
+    private ScoringPolicyRegistry() {
+    }
+
+    /**
+     * Policy registered for the category, or null if it uses the team type default
+     */
+    public static ScoringPolicy get(Category category) {
+        return category == null ? null : policies.get(category);
+    }
+
+    /**
+     * Policy that scores this team
+     */
+    public static ScoringPolicy policyFor(Team team) {
+        ScoringPolicy policy = get(team.getCategory());
+        return policy != null ? policy : team.getDefaultScoringPolicy();
+    }
+
+    public static void register(Category category, ScoringPolicy policy) {
+        if (category == null || policy == null) {
+            throw new IllegalArgumentException("Category and policy are required");
+        }
+        policies.put(category, policy);
+        Team.scoringRulesChanged();
+    }
+
+    /**
+     * Return the category to its team type default
+     */
+    public static void clear(Category category) {
+        if (policies.remove(category) != null) {
+            Team.scoringRulesChanged();
+        }
+    }
+}
@@ -0,0 +1,14 @@
+/**
+ * SimpleAveragePolicy - mean of all scores, rounded to one decimal place
+ */
+public class SimpleAveragePolicy implements ScoringPolicy {
+    @Override
+    public double score(int[] data, int offset, int length) {
+        return ScoringKernel.simpleAverage(data, offset, length);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Simple average";
+    }
+}
@@ -0,0 +1,88 @@
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * StringPool - deduplicates repeated text fields while teams are loaded
+ * Backed by a bounded ConcurrentHashMap instead of String.intern, so it is
+ * safe for the parallel loader and never grows past maxEntries. Once full,
+ * new values are returned as they are.
+ */
+public class StringPool {
+    public static final int DEFAULT_MAX_ENTRIES = 1 << 16;
+
+    private final ConcurrentHashMap<String, String> pool = new ConcurrentHashMap<>();
+    private final int maxEntries;
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong bytesSaved = new AtomicLong();
+
+    public StringPool() {
+        this(DEFAULT_MAX_ENTRIES);
+    }
+
+    public StringPool(int maxEntries) {
+        this.maxEntries = maxEntries;
+    }
+
+    /**
+     * Return the pooled copy of the value, adding it if there is room
+     */
+    public String intern(String value) {
+        if (value == null) {
+            return null;
+        }
+
+        String pooled = pool.get(value);
+        if (pooled == null) {
+            if (pool.size() >= maxEntries) {
+                return value;
+            }
+            pooled = pool.putIfAbsent(value, value);
+            if (pooled == null) {
+                return value;
+            }
+        }
+
+        // Only a separate copy of the text is freed; handing back the pooled
+        // instance itself (e.g. from a snapshot dictionary) saves nothing
+        if (pooled != value) {
+            hits.incrementAndGet();
+            bytesSaved.addAndGet(estimateSize(value));
+        }
+        return pooled;
+    }
+
+    public int size() {
+        return pool.size();
+    }
+
+    /**
+     * Number of values that were replaced by an existing pooled copy
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * Approximate heap bytes no longer retained thanks to pooled copies
+     */
+    public long getBytesSaved() {
+        return bytesSaved.get();
+    }
+
+    /**
+     * Approximate heap size of a String: 24-byte object plus its byte[] (16-byte
+     * header, one byte per char for Latin-1 text or two otherwise, 8-byte aligned)
+     */
+    static long estimateSize(String value) {
+        int bytesPerChar = 1;
+        for (int i = 0; i < value.length(); i++) {
+            if (value.charAt(i) > 0xFF) {
+                bytesPerChar = 2;
+                break;
+            }
+        }
+        long array = 16 + (long) value.length() * bytesPerChar;
+        return 24 + ((array + 7) & ~7L);
+    }
+}
@@ -1,4 +1,3 @@
-import java.util.Arrays;
 // File: Team.java (formerly HackathonTeam.java)
 /**
  * Abstract Team superclass containing common attributes and methods
@@ -11,7 +10,25 @@ public abstract class Team {
     protected Category category;
     protected Competitor teamLeader;
     protected Competitor[] teamMember;
+    // Scores while the team is not in a TeamList; in a list they live in its ScoreStore
     protected int[] scores;
+    private ScoreStore scoreStore;
+    // Slot in scoreStore, guarded by the store's lock
+    int scoreSlot = -1;
+    // Every judge's scores for this team, created by the first judge submission
+    private JudgeScoreMatrix judgeScores;
+    // List holding this team, told about score changes so its indexes stay current
+    private volatile TeamList owner;
+    // Key in the owner's ScoreRangeIndex, guarded by the owner's lock
+    long scoreKey;
+
+    // Bumped by every setScores; a cached overall score is only valid for the stamp it was computed from
+    private volatile int scoreStamp;
+    private volatile CachedScore cachedScore;
+
+    // Bumped when the scoring rules change, which invalidates every cached overall score
+    private static final java.util.concurrent.atomic.AtomicInteger rulesVersion =
+            new java.util.concurrent.atomic.AtomicInteger();
 
     public Team(int teamNumber, String teamName, String university, Category category, Competitor teamLeader, Competitor[] teamMember, int[] scores) {
         this.teamNumber = teamNumber;
@@ -71,55 +88,221 @@ public abstract class Team {
         this.teamLeader = teamLeader;
     }
 
-    public int[] getScoreArray() {
-        return scores;
+    /**
+     * The team's scores. While the team is in a TeamList this is a copy read
+     * from the list's ScoreStore, so changes must go through setScores.
+     */
+    public synchronized int[] getScoreArray() {
+        ScoreStore store = scoreStore;
+        return store != null ? store.read(this) : scores;
     }
 
     public void setScores(int[] scores) {
-        this.scores = scores;
+        synchronized (this) {
+            ScoreStore store = scoreStore;
+            if (store != null) {
+                store.write(this, scores);
+            } else {
+                this.scores = scores;
+            }
+            scoreStamp++;
+        }
+        TeamList list = owner;
+        if (list != null) {
+            list.scoresChanged(this);
+        }
+    }
+
+    /**
+     * Scores submitted by individual judges, or null if no judge has submitted any
+     */
+    public synchronized JudgeScoreMatrix getJudgeScores() {
+        return judgeScores;
     }
 
-    public abstract double getOverallScore(); // {
-//        return 5; // Stage 4
-//
-//        if (scores == null || scores.length == 0) {
-//            return 0;
-//        }
-//
-//        // Calculate weighted average (more complex than simple average)
-//        double sum = 0;
-//        double totalWeight = 0;
-//
-//        // Assign different weights to different score positions
-//        // Higher weights for middle scores (judges tend to be more careful with middle scores)
-//        double[] weights = {0.15, 0.25, 0.20, 0.25, 0.15}; // weights for 5 scores
-//
-//        for (int i = 0; i < scores.length; i++) {
-//            double weight = (i < weights.length) ? weights[i] : 1.0; // default weight if more scores
-//            sum += scores[i] * weight;
-//            totalWeight += weight;
-//        }
-//
-//        double average = sum / totalWeight;
-//
-//        // Round to 1 decimal place
-//        return Math.round(average * 10) / 10.0;
-//    }
+    synchronized JudgeScoreMatrix judgeScoresFor(int criteria, int minScore, int maxScore) {
+        if (judgeScores == null) {
+            judgeScores = new JudgeScoreMatrix(criteria, minScore, maxScore);
+        }
+        return judgeScores;
+    }
+
+    void setOwner(TeamList owner) {
+        this.owner = owner;
+    }
+
+    /**
+     * Move the scores into a slot of the store
+     */
+    synchronized void attachScores(ScoreStore store) {
+        store.add(this, scores);
+        scoreStore = store;
+        scores = null;
+    }
+
+    /**
+     * Take the scores back out of the store, e.g. when the team leaves its list
+     */
+    synchronized void detachScores() {
+        ScoreStore store = scoreStore;
+        if (store != null) {
+            scores = store.remove(this);
+            scoreStore = null;
+        }
+    }
+
+    /**
+     * Overall score, computed once and cached until setScores or a change of scoring rules
+     */
+    public final double getOverallScore() {
+        CachedScore cached = cachedScore;
+        int rules = rulesVersion.get();
+        int stamp = scoreStamp;
+        if (cached != null && cached.stamp == stamp && cached.rules == rules) {
+            return cached.value;
+        }
+
+        double value = computeOverallScore();
+        cachedScore = new CachedScore(stamp, rules, value);
+        return value;
+    }
+
+    /**
+     * Invalidate the cached overall score of every team, e.g. after the scoring rules change
+     */
+    public static void scoringRulesChanged() {
+        rulesVersion.incrementAndGet();
+        TeamList.sharedInputsChanged();
+    }
+
+    static int getRulesVersion() {
+        return rulesVersion.get();
+    }
+
+    /**
+     * Store an overall score computed elsewhere (e.g. by ScoringKernel.scoreAll)
+     * from the current scores under the given rules version. setScores writes the
+     * new scores before bumping the stamp, so a value raced by setScores is at
+     * worst replaced on the next read.
+     */
+    void cacheOverallScore(int rules, double value) {
+        cachedScore = new CachedScore(scoreStamp, rules, value);
+    }
+
+    /**
+     * Read the scores and the overall score together. setScores cannot run in
+     * between, so the two always belong to each other.
+     */
+    public synchronized ScoreSnapshot snapshotScores() {
+        return new ScoreSnapshot(this, getScoreArray(), getOverallScore());
+    }
+
+    /**
+     * Scores and overall score of one team as read by snapshotScores
+     */
+    public static final class ScoreSnapshot {
+        private final Team team;
+        private final int[] scores;
+        private final double overallScore;
+
+        ScoreSnapshot(Team team, int[] scores, double overallScore) {
+            this.team = team;
+            this.scores = scores;
+            this.overallScore = overallScore;
+        }
+
+        public Team getTeam() { return team; }
+        public int[] getScores() { return scores; }
+        public double getOverallScore() { return overallScore; }
+
+        public String getFullDetails() {
+            return team.formatFullDetails(scores, overallScore);
+        }
+
+        /**
+         * Append the full details to a shared buffer, without an intermediate String
+         */
+        public void appendFullDetails(StringBuilder out) {
+            team.appendFullDetails(out, scores, overallScore);
+        }
+
+        public String getShortDetails() {
+            return team.formatShortDetails(overallScore);
+        }
+    }
+
+    private static final class CachedScore {
+        final int stamp;
+        final int rules;
+        final double value;
+
+        CachedScore(int stamp, int rules, double value) {
+            this.stamp = stamp;
+            this.rules = rules;
+            this.value = value;
+        }
+    }
+
+    /**
+     * Policy scoring this team type when its category has none registered
+     */
+    protected abstract ScoringPolicy getDefaultScoringPolicy();
+
+    /**
+     * Score the current scores in place with the team's policy
+     */
+    private synchronized double computeOverallScore() {
+        ScoringPolicy policy = ScoringPolicyRegistry.policyFor(this);
+        ScoreStore store = scoreStore;
+        if (store != null) {
+            return store.score(this, policy);
+        }
+        return scores == null ? 0 : ScoringKernel.overallScore(policy, scores, 0, scores.length);
+    }
 
     // Method that get full details.
     public String getFullDetails() {
+        ScoreSnapshot snapshot = snapshotScores();
+        return formatFullDetails(snapshot.scores, snapshot.overallScore);
+    }
+
+    String formatFullDetails(int[] scores, double overallScore) {
         StringBuilder details = new StringBuilder();
+        appendFullDetails(details, scores, overallScore);
+        return details.toString();
+    }
+
+    void appendFullDetails(StringBuilder details, int[] scores, double overallScore) {
         details.append("Team ID ").append(teamNumber)
                 .append(", name ").append(teamName).append(" (").append(university).append(").\n")
                 .append(teamName).append(" is competing in the ").append(category.getCategoryName())
-                .append(" category and received scores ")
-                .append(Arrays.toString(scores))
-                .append(", resulting in an overall score of ").append(getOverallScore());
-        return details.toString();
+                .append(" category and received scores ");
+        appendScores(details, scores);
+        details.append(", resulting in an overall score of ").append(overallScore);
+    }
+
+    // Same text as Arrays.toString(scores)
+    private static void appendScores(StringBuilder details, int[] scores) {
+        if (scores == null) {
+            details.append("null");
+            return;
+        }
+        details.append('[');
+        for (int i = 0; i < scores.length; i++) {
+            if (i > 0) {
+                details.append(", ");
+            }
+            details.append(scores[i]);
+        }
+        details.append(']');
     }
 
     // Method to get short details.
     public String getShortDetails() {
+        return formatShortDetails(getOverallScore());
+    }
+
+    String formatShortDetails(double overallScore) {
         // Extract initials from team name (first letter of each word)
         String[] words = teamName.split(" ");
         StringBuilder initials = new StringBuilder();
@@ -129,7 +312,7 @@ public abstract class Team {
             }
         }
 
-        return "TID " + teamNumber + " (" + initials.toString() + ") has an overall score of " + getOverallScore();
+        return "TID " + teamNumber + " (" + initials.toString() + ") has an overall score of " + overallScore;
     }
 
     public String toString(){
@@ -0,0 +1,43 @@
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * TeamExporter - writes the teams, summary statistics and score frequencies in a machine-readable format
+ * Exporters stream each team to the writer as it is read (TeamList.streamTeams),
+ * so an export of any size runs in constant memory.
+ */
+public interface TeamExporter {
+    TeamExporter JSON_LINES = new JsonLinesExporter();
+    TeamExporter CSV = new CsvTeamExporter();
+    TeamExporter HTML = new HtmlExporter();
+
+    /**
+     * Every exporter, in the order they are offered to the user
+     */
+    static List<TeamExporter> getAll() {
+        return Arrays.asList(JSON_LINES, CSV, HTML);
+    }
+
+    /**
+     * The exporter with this name, or null
+     */
+    static TeamExporter forName(String name) {
+        for (TeamExporter exporter : getAll()) {
+            if (exporter.getName().equals(name)) {
+                return exporter;
+            }
+        }
+        return null;
+    }
+
+    String getName();
+
+    /**
+     * File extension without the dot, e.g. "jsonl"
+     */
+    String getFileExtension();
+
+    void export(TeamList teamList, Writer out, ReportProgress progress) throws IOException;
+}
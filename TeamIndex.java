@@ -0,0 +1,139 @@
+/**
+ * TeamIndex - team number to Team lookup table
+ * Open addressing with linear probing over a primitive int key array, so
+ * lookups never box the team number. Removal shifts later entries back into
+ * the gap, so no tombstones build up.
+ */
+public class TeamIndex {
+    private static final int MIN_CAPACITY = 16;
+
+    private int[] keys;
+    private Team[] values; // null marks an empty slot
+    private int size;
+    private int mask;
+    private int shift;
+
+    public TeamIndex() {
+        this(MIN_CAPACITY);
+    }
+
+    public TeamIndex(int expectedSize) {
+        int capacity = MIN_CAPACITY;
+        while (capacity < expectedSize * 2) {
+            capacity <<= 1;
+        }
+        allocate(capacity);
+    }
+
+    /**
+     * Add the team under its team number.
+     * Returns false and leaves the index unchanged if the number is already taken.
+     */
+    public boolean put(Team team) {
+        int key = team.getTeamNumber();
+        int slot = slotOf(key);
+        while (values[slot] != null) {
+            if (keys[slot] == key) {
+                return false;
+            }
+            slot = (slot + 1) & mask;
+        }
+
+        keys[slot] = key;
+        values[slot] = team;
+        size++;
+        if (size * 2 > values.length) {
+            resize(values.length * 2);
+        }
+        return true;
+    }
+
+    public Team get(int teamNumber) {
+        int slot = slotOf(teamNumber);
+        while (values[slot] != null) {
+            if (keys[slot] == teamNumber) {
+                return values[slot];
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public boolean contains(int teamNumber) {
+        return get(teamNumber) != null;
+    }
+
+    /**
+     * Remove and return the team with this number, or null if there is none
+     */
+    public Team remove(int teamNumber) {
+        int slot = slotOf(teamNumber);
+        while (values[slot] != null) {
+            if (keys[slot] == teamNumber) {
+                Team removed = values[slot];
+                shiftBack(slot);
+                size--;
+                return removed;
+            }
+            slot = (slot + 1) & mask;
+        }
+        return null;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public void clear() {
+        allocate(MIN_CAPACITY);
+    }
+
+    /**
+     * Close the gap at slot by moving back any later entry in the same probe run
+     * whose home slot is at or before the gap
+     */
+    private void shiftBack(int gap) {
+        int slot = (gap + 1) & mask;
+        while (values[slot] != null) {
+            int home = slotOf(keys[slot]);
+            // Distance from home to slot and from home to the gap, both around the ring
+            if (((slot - home) & mask) >= ((gap - home) & mask)) {
+                keys[gap] = keys[slot];
+                values[gap] = values[slot];
+                gap = slot;
+            }
+            slot = (slot + 1) & mask;
+        }
+        values[gap] = null;
+    }
+
+    private int slotOf(int key) {
+        // Fibonacci hashing spreads sequential team numbers across the table
+        return (key * 0x9E3779B9) >>> shift;
+    }
+
+    private void resize(int capacity) {
+        int[] oldKeys = keys;
+        Team[] oldValues = values;
+        allocate(capacity);
+        for (int i = 0; i < oldValues.length; i++) {
+            if (oldValues[i] != null) {
+                int slot = slotOf(oldKeys[i]);
+                while (values[slot] != null) {
+                    slot = (slot + 1) & mask;
+                }
+                keys[slot] = oldKeys[i];
+                values[slot] = oldValues[i];
+                size++;
+            }
+        }
+    }
+
+    private void allocate(int capacity) {
+        keys = new int[capacity];
+        values = new Team[capacity];
+        mask = capacity - 1;
+        shift = 32 - Integer.numberOfTrailingZeros(capacity);
+        size = 0;
+    }
+}
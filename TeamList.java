@@ -1,6 +1,10 @@
 import java.time.LocalDate;
 import java.util.*;
 import java.io.*;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
 
 /**
  * TeamList class to manage ArrayList of HackathonTeam objects
@@ -8,15 +12,167 @@ import java.io.*;
  */
 public class TeamList {
     private ArrayList<Team> teams;
+    // Team number -> team, kept in sync by addTeam and removeTeam
+    private TeamIndex teamIndex;
+    // Secondary indexes, each bucket in list order
+    private Map<Category, ArrayList<Team>> teamsByCategory;
+    private Map<String, ArrayList<Team>> teamsByUniversity;
+    // Overall score index for threshold and band queries, re-ranked whenever
+    // the scoring rules have changed since it was built
+    private ScoreRangeIndex scoreIndex;
+    // Every team's scores, laid out in one array for full-population sweeps
+    private final ScoreStore scoreStore;
+    // Running overall score totals behind the summary statistics; the running
+    // individual score counts are kept by scoreStore. The score index and the
+    // totals are guarded by the list's lock, since judges' score submissions
+    // can arrive from several threads at once
+    private TeamStatistics statistics;
+    // CSV the teams came from and the byte offset just after the last row read from it
+    private String sourceFilename;
+    private long sourceOffset;
+    // Shared copies of university names for everything loaded into this list
+    private final StringPool stringPool = new StringPool();
+    // Bumped after every change that can alter a report: adds, removals, scores,
+    // team details, rescoring and re-sorting
+    private final java.util.concurrent.atomic.AtomicLong version = new java.util.concurrent.atomic.AtomicLong();
+    // Bumped by changes made outside any one list that can alter its reports:
+    // scoring rules and policies
+    private static final java.util.concurrent.atomic.AtomicLong sharedVersion = new java.util.concurrent.atomic.AtomicLong();
+    // Team.getRulesVersion() the score index and totals were last ranked under
+    private int rankedRules;
+    // Judges allowed to score each team, or null to accept any judge of the team's category
+    private JudgeAllocation judgeAllocation;
+    // Teams written between progress reports (a power of two)
+    private static final int PROGRESS_INTERVAL = 256;
+    private static final String FULL_REPORT_HEADING = "=== HACKATHON TEAMS FULL REPORT ===\n\n";
+    // Fewest teams rendered by one task of the parallel full report
+    private static final int MIN_RENDER_CHUNK = 512;
+    // Range of individual scores counted in frequency reports
+    private final int minScore;
+    private final int maxScore;
 
     public TeamList() {
+        this(TeamStatistics.MIN_SCORE, TeamStatistics.MAX_SCORE);
+    }
+
+    /**
+     * List for an event whose judges score from minScore to maxScore, e.g. 1 to 10
+     */
+    public TeamList(int minScore, int maxScore) {
+        this.minScore = minScore;
+        this.maxScore = maxScore;
+        this.scoreStore = new ScoreStore(ScoreStore.DEFAULT_STRIDE, 0, minScore, maxScore);
         this.teams = new ArrayList<>();
+        this.teamIndex = new TeamIndex();
+        this.teamsByCategory = new HashMap<>();
+        this.teamsByUniversity = new HashMap<>();
+        this.scoreIndex = new ScoreRangeIndex();
+        this.statistics = new TeamStatistics();
+    }
+
+    /**
+     * Load teams for the given CSV file, using its binary snapshot when the
+     * snapshot is newer than the CSV. A snapshot that cannot be read, for any
+     * reason, is ignored. The snapshot is refreshed only after the whole CSV
+     * loaded without errors, so a bad row is reported again on the next start.
+     */
+    public void loadTeams(String csvFilename) {
+        java.nio.file.Path csv = java.nio.file.Paths.get(csvFilename);
+        java.nio.file.Path snapshot = TeamSnapshot.snapshotPathFor(csvFilename);
+
+        if (TeamSnapshot.isFresh(snapshot, csv)) {
+            int before = teams.size();
+            try {
+                long savedBefore = stringPool.getBytesSaved();
+                TeamSnapshot.read(snapshot, stringPool, this::ingest);
+                sourceFilename = csvFilename;
+                sourceOffset = java.nio.file.Files.size(csv);
+                System.out.println("Successfully loaded " + teams.size() + " teams from snapshot " + snapshot);
+                reportPoolSavings(savedBefore);
+                return;
+            } catch (IOException | RuntimeException e) {
+                // Fall back to the CSV if the snapshot cannot be used (unreadable or corrupt)
+                System.err.println("Ignoring snapshot " + snapshot + ": " + e.getMessage());
+                for (Team team : new ArrayList<>(teams.subList(before, teams.size()))) {
+                    removeTeam(team.getTeamNumber());
+                }
+            }
+        }
+
+        if (loadTeamsFromCSV(csvFilename)) {
+            saveSnapshot(csvFilename);
+        }
+    }
+
+    /**
+     * Write the current teams to the snapshot file of the given CSV
+     */
+    public void saveSnapshot(String csvFilename) {
+        java.nio.file.Path snapshot = TeamSnapshot.snapshotPathFor(csvFilename);
+        try {
+            long sourceLength = java.nio.file.Files.size(java.nio.file.Paths.get(csvFilename));
+            TeamSnapshot.write(teams, sourceLength, snapshot);
+        } catch (IOException e) {
+            System.err.println("Error writing snapshot: " + e.getMessage());
+        }
     }
 
     /**
      * Load teams from CSV file
+     * Uses the memory-mapped CSVIngestEngine; rows are added in file order.
+     * Returns false if the file could not be read or a row could not be parsed.
      */
-    public void loadTeamsFromCSV(String filename) {
+    public boolean loadTeamsFromCSV(String filename) {
+        try {
+            long savedBefore = stringPool.getBytesSaved();
+            CSVIngestEngine engine = new CSVIngestEngine(stringPool);
+            engine.load(filename, this::ingest);
+            sourceFilename = filename;
+            sourceOffset = engine.getBytesConsumed();
+            System.out.println("Successfully loaded " + teams.size() + " teams from " + filename);
+            reportPoolSavings(savedBefore);
+            return true;
+
+        } catch (IOException e) {
+            System.err.println("Error reading CSV file: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.err.println("Error parsing number in CSV: " + e.getMessage());
+        }
+        return false;
+    }
+
+    /**
+     * Load teams from CSV file using all cores
+     * Chunks are parsed on the common fork-join pool and merged in file order.
+     */
+    public void loadTeamsFromCSVParallel(String filename) {
+        try {
+            long savedBefore = stringPool.getBytesSaved();
+            List<CSVIngestEngine.Chunk> chunks = CSVIngestEngine.loadParallel(filename, ForkJoinPool.commonPool(), stringPool);
+            for (CSVIngestEngine.Chunk chunk : chunks) {
+                addIngestedTeams(chunk.getTeams());
+                // Stop at the first bad row, keeping the teams before it like the sequential loader
+                if (chunk.getFailure() != null) {
+                    throw chunk.getFailure();
+                }
+            }
+            sourceFilename = filename;
+            sourceOffset = java.nio.file.Files.size(java.nio.file.Paths.get(filename));
+            System.out.println("Successfully loaded " + teams.size() + " teams from " + filename);
+            reportPoolSavings(savedBefore);
+
+        } catch (IOException e) {
+            System.err.println("Error reading CSV file: " + e.getMessage());
+        } catch (NumberFormatException e) {
+            System.err.println("Error parsing number in CSV: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Load teams from CSV file line by line with BufferedReader
+     * Original loader, kept as the baseline for CSVLoadBenchmark.
+     */
+    public void loadTeamsFromCSVBuffered(String filename) {
         try (BufferedReader br = new BufferedReader(new FileReader(filename))) {
             String line;
             boolean isFirstLine = true;
@@ -35,8 +191,8 @@ public class TeamList {
                     String university = data[2].trim();
                     String categoryName = data[3].trim();
 
-                    // Create category
-                    Category category = new Category(teams.size() + 1, categoryName);
+                    // Shared category instance from the registry
+                    Category category = CategoryRegistry.get(categoryName);
 
                     // Create team leader
                     Competitor leader = new Competitor(
@@ -68,7 +224,7 @@ public class TeamList {
                         team = new WebDevelopmentTeam(teamNumber, teamName, university, category, leader, members, scores);
                     }
 
-                    teams.add(team);
+                    ingest(team);
                 }
             }
             System.out.println("Successfully loaded " + teams.size() + " teams from " + filename);
@@ -81,168 +237,574 @@ public class TeamList {
     }
 
     // Basic ArrayList operations
-    public void addTeam(Team team) {
+
+    /**
+     * Add a team. Returns false without adding it if its team number is already in use.
+     */
+    public synchronized boolean addTeam(Team team) {
+        if (!teamIndex.put(team)) {
+            return false;
+        }
+        // Bring the other teams up to the current rules before this one joins them
+        ensureRanked();
+        team.attachScores(scoreStore);
         teams.add(team);
+        addToBuckets(team);
+        statistics.add(scoreIndex.add(team));
+        team.setOwner(this);
+        modified();
+        return true;
     }
 
-    public boolean removeTeam(int teamNumber) {
-        return teams.removeIf(team -> team.getTeamNumber() == teamNumber);
+    /**
+     * Add teams parsed outside the list (parallel chunks, appended CSV rows)
+     */
+    public void addIngestedTeams(List<Team> ingested) {
+        for (Team team : ingested) {
+            ingest(team);
+        }
     }
 
-    public Team getTeamByID(int teamID) {
-        for (Team team : teams) {
-            if (team.getTeamNumber() == teamID) {
-                return team;
-            }
+    /**
+     * Loader sink: add the team, reporting rows that reuse an existing team number
+     */
+    private void ingest(Team team) {
+        if (!addTeam(team)) {
+            System.err.println("Skipping duplicate team number " + team.getTeamNumber()
+                    + " (" + team.getTeamName() + ")");
         }
-        return null;
     }
 
-    public ArrayList<Team> getAllTeams() {
-        return new ArrayList<>(teams); // Return copy to prevent external modification
+    /**
+     * Pool used to share university names between teams
+     */
+    public StringPool getStringPool() {
+        return stringPool;
     }
 
-    public int getTotalTeams() {
-        return teams.size();
+    private void reportPoolSavings(long savedBefore) {
+        long saved = stringPool.getBytesSaved() - savedBefore;
+        System.out.printf("String pool: %d shared values, about %.1f KB saved by this load%n",
+                stringPool.size(), saved / 1024.0);
     }
 
-    // Reporting methods that will be called by the manager class
-    public String generateFullReport() {
-        StringBuilder report = new StringBuilder();
-        report.append("=== HACKATHON TEAMS FULL REPORT ===\n\n");
+    /**
+     * CSV file the teams were loaded from, or null if they were not loaded from a file
+     */
+    public String getSourceFilename() {
+        return sourceFilename;
+    }
 
-        for (Team team : teams) {
-            report.append(team.getFullDetails()).append("\n\n");
+    /**
+     * Byte offset just after the last CSV row that has been loaded
+     */
+    public long getSourceOffset() {
+        return sourceOffset;
+    }
+
+    /**
+     * Record rows appended to the source CSV that have now been loaded
+     */
+    public void setSourceOffset(long sourceOffset) {
+        this.sourceOffset = sourceOffset;
+    }
+
+    public synchronized boolean removeTeam(int teamNumber) {
+        Team removed = teamIndex.remove(teamNumber);
+        if (removed == null) {
+            return false;
         }
+        teams.remove(removed);
+        removeFromBucket(teamsByCategory, removed.getCategory(), removed);
+        removeFromBucket(teamsByUniversity, removed.getUniversity(), removed);
+        statistics.remove(scoreIndex.remove(removed));
+        removed.setOwner(null);
+        removed.detachScores();
+        modified();
+        return true;
+    }
 
-        return report.toString();
+    /**
+     * Modification version: increases after every change that can alter a report,
+     * so a report built at one version is still current while the version is unchanged.
+     * Both counters only grow, so their sum moves on whenever either changes.
+     */
+    public long getVersion() {
+        return version.get() + sharedVersion.get();
     }
 
-    public Team getHighestScoringTeam() {
-        if (teams.isEmpty()) return null;
+    /**
+     * Called when something every list's reports depend on changes
+     */
+    static void sharedInputsChanged() {
+        sharedVersion.incrementAndGet();
+    }
 
-        Team highest = teams.get(0);
-        for (Team team : teams) {
-            if (team.getOverallScore() > highest.getOverallScore()) {
-                highest = team;
-            }
+    private void modified() {
+        version.incrementAndGet();
+    }
+
+    /**
+     * Column store holding the scores of every team in the list
+     */
+    ScoreStore getScoreStore() {
+        return scoreStore;
+    }
+
+    /**
+     * Called by Team.setScores after a team in this list gets new scores.
+     * The team is moved from the key it was indexed under to its current
+     * score, keeping its place in list order, so overlapping calls for one
+     * team all leave it indexed once.
+     */
+    synchronized void scoresChanged(Team team) {
+        if (teamIndex.get(team.getTeamNumber()) != team) {
+            return; // removed while its scores were being set
         }
-        return highest;
+        ensureRanked();
+        int oldTenths = scoreIndex.indexedTenths(team);
+        statistics.scoresChanged(oldTenths, scoreIndex.rescore(team));
+        modified();
     }
 
     /**
-     * Get the team with the lowest overall score
+     * Re-rank every team after the scoring rules change
      */
-    public Team getLowestScoringTeam() {
-        if (teams.isEmpty()) return null;
+    public void scoringRulesChanged() {
+        Team.scoringRulesChanged();
+        recomputeAllScores();
+    }
 
-        Team lowest = teams.get(0);
-        for (Team team : teams) {
-            if (team.getOverallScore() < lowest.getOverallScore()) {
-                lowest = team;
-            }
+    /**
+     * Store the allocation so that only the allocated judges can submit scores
+     * for the teams it covers; teams added later, or null, fall back to the
+     * category check alone
+     */
+    public synchronized void setJudgeAllocation(JudgeAllocation allocation) {
+        this.judgeAllocation = allocation;
+    }
+
+    public synchronized JudgeAllocation getJudgeAllocation() {
+        return judgeAllocation;
+    }
+
+    /**
+     * Record one judge's scores for a team and set the team's scores to the
+     * judges' consensus. Returns false if there is no team with this number.
+     * Throws IllegalArgumentException if the judge is not assigned to the team's
+     * category, is not allocated to the team by the stored judge allocation,
+     * or the scores do not fit the team's score matrix.
+     */
+    public boolean submitJudgeScores(int teamNumber, Judge judge, int[] scores) {
+        Team team = getTeamByID(teamNumber);
+        if (team == null) {
+            return false;
+        }
+        if (!judge.isAssignedTo(team.getCategory())) {
+            throw new IllegalArgumentException(judge.getJudgeName() + " is not assigned to the "
+                    + team.getCategory().getCategoryName() + " category");
+        }
+        JudgeAllocation allocation = getJudgeAllocation();
+        if (allocation != null && allocation.covers(team) && !allocation.isAllocated(team, judge)) {
+            throw new IllegalArgumentException(judge.getJudgeName() + " is not allocated to team " + teamNumber);
         }
-        return lowest;
+        JudgeScoreMatrix matrix = team.judgeScoresFor(scores.length, minScore, maxScore);
+        // Holding the matrix keeps concurrent submissions for the team in order
+        synchronized (matrix) {
+            team.setScores(matrix.submit(judge, scores));
+        }
+        return true;
     }
 
     /**
-     * Calculate average overall score across all teams
+     * Score the category with a different policy from now on and re-rank every team
      */
-    public double getAverageOverallScore() {
-        if (teams.isEmpty()) return 0;
+    public void setScoringPolicy(Category category, ScoringPolicy policy) {
+        ScoringPolicyRegistry.register(category, policy);
+        recomputeAllScores();
+    }
+
+    /**
+     * Return the category to its team type's default scoring and re-rank every team
+     */
+    public void clearScoringPolicy(Category category) {
+        ScoringPolicyRegistry.clear(category);
+        recomputeAllScores();
+    }
 
-        double total = 0;
+    /**
+     * Recompute every team's overall score in one sweep over the score store,
+     * then rebuild the score index and totals from the fresh values
+     */
+    public synchronized void recomputeAllScores() {
+        rankedRules = Team.getRulesVersion();
+        ScoringKernel.scoreAll(scoreStore);
+        scoreIndex.clear();
+        long overallTenthsSum = 0;
         for (Team team : teams) {
-            total += team.getOverallScore();
+            overallTenthsSum += scoreIndex.add(team);
         }
-        return Math.round((total / teams.size()) * 10) / 10.0;
+        statistics.setOverallTenthsSum(overallTenthsSum);
+        modified();
     }
 
     /**
-     * Get minimum overall score across all teams
+     * Re-rank first if the scoring rules changed without this list being told,
+     * e.g. a policy registered directly with ScoringPolicyRegistry or set
+     * through another list. Called under the list's lock before the score
+     * index or totals are used.
+     */
+    private void ensureRanked() {
+        if (rankedRules != Team.getRulesVersion()) {
+            recomputeAllScores();
+        }
+    }
+
+    /**
+     * Teams with an overall score of at least minScore, highest first
      */
-    public double getMinOverallScore() {
-        if (teams.isEmpty()) return 0;
+    public synchronized ArrayList<Team> getTeamsByMinScore(double minScore) {
+        ensureRanked();
+        return scoreIndex.atLeast(minScore);
+    }
 
-        double min = teams.get(0).getOverallScore();
-        for (Team team : teams) {
-            if (team.getOverallScore() < min) {
-                min = team.getOverallScore();
-            }
+    /**
+     * Teams with an overall score between minScore and maxScore inclusive, highest first
+     */
+    public synchronized ArrayList<Team> getTeamsInScoreBand(double minScore, double maxScore) {
+        ensureRanked();
+        return scoreIndex.between(minScore, maxScore);
+    }
+
+    /**
+     * Change a team's name and university, keeping the university index current.
+     * Returns false if there is no team with this number.
+     */
+    public synchronized boolean updateTeamDetails(int teamNumber, String teamName, String university) {
+        Team team = teamIndex.get(teamNumber);
+        if (team == null) {
+            return false;
+        }
+
+        team.setTeamName(teamName);
+        if (!Objects.equals(team.getUniversity(), university)) {
+            removeFromBucket(teamsByUniversity, team.getUniversity(), team);
+            team.setUniversity(stringPool.intern(university));
+            addToBucket(teamsByUniversity, team.getUniversity(), team);
         }
-        return min;
+        modified();
+        return true;
     }
 
     /**
-     * Get maximum overall score across all teams
+     * Teams in the category, in list order
      */
-    public double getMaxOverallScore() {
-        if (teams.isEmpty()) return 0;
+    public synchronized ArrayList<Team> getTeamsByCategory(Category category) {
+        ArrayList<Team> bucket = teamsByCategory.get(category);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
 
-        double max = teams.get(0).getOverallScore();
-        for (Team team : teams) {
-            if (team.getOverallScore() > max) {
-                max = team.getOverallScore();
+    /**
+     * Teams from the university, in list order
+     */
+    public synchronized ArrayList<Team> getTeamsByUniversity(String university) {
+        ArrayList<Team> bucket = teamsByUniversity.get(university);
+        return bucket == null ? new ArrayList<>() : new ArrayList<>(bucket);
+    }
+
+    /**
+     * Categories that have at least one team, in category ID order
+     */
+    public synchronized List<Category> getCategories() {
+        List<Category> categories = new ArrayList<>(teamsByCategory.keySet());
+        categories.sort((c1, c2) -> Integer.compare(c1.getCategoryID(), c2.getCategoryID()));
+        return categories;
+    }
+
+    /**
+     * Universities that have at least one team, in alphabetical order
+     */
+    public synchronized List<String> getUniversities() {
+        List<String> universities = new ArrayList<>(teamsByUniversity.keySet());
+        Collections.sort(universities);
+        return universities;
+    }
+
+    private void addToBuckets(Team team) {
+        addToBucket(teamsByCategory, team.getCategory(), team);
+        addToBucket(teamsByUniversity, team.getUniversity(), team);
+    }
+
+    private static <K> void addToBucket(Map<K, ArrayList<Team>> index, K key, Team team) {
+        index.computeIfAbsent(key, k -> new ArrayList<>()).add(team);
+    }
+
+    private static <K> void removeFromBucket(Map<K, ArrayList<Team>> index, K key, Team team) {
+        ArrayList<Team> bucket = index.get(key);
+        if (bucket != null) {
+            bucket.remove(team);
+            if (bucket.isEmpty()) {
+                index.remove(key);
             }
         }
-        return max;
     }
 
     /**
-     * Generate frequency report of individual scores (1-5)
-     * Counts how many times each score appears across all teams and all criteria
+     * Refill the secondary indexes so each bucket follows the new list order
      */
-    public Map<Integer, Integer> getScoreFrequency() {
-        Map<Integer, Integer> frequency = new TreeMap<>();
+    private void rebuildBuckets() {
+        teamsByCategory.clear();
+        teamsByUniversity.clear();
+        for (Team team : teams) {
+            addToBuckets(team);
+        }
+    }
 
-        // Initialize frequency map with scores 1-5
-        for (int i = 1; i <= 5; i++) {
-            frequency.put(i, 0);
+    public synchronized Team getTeamByID(int teamID) {
+        return teamIndex.get(teamID);
+    }
+
+    public synchronized ArrayList<Team> getAllTeams() {
+        return new ArrayList<>(teams); // Return copy to prevent external modification
+    }
+
+    public synchronized int getTotalTeams() {
+        return teams.size();
+    }
+
+    // Reporting methods that will be called by the manager class
+    public String generateFullReport() {
+        StringWriter report = new StringWriter();
+        try {
+            writeFullReport(report, ReportProgress.NONE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
         }
+        return report.toString();
+    }
 
-        // Count occurrences of each score
-        for (Team team : teams) {
-            int[] scores = team.getScoreArray();
-            for (int score : scores) {
-                if (score >= 1 && score <= 5) {
-                    frequency.put(score, frequency.get(score) + 1);
-                }
+    /**
+     * Write the full-details table, reporting progress and stopping if cancelled
+     */
+    public void writeFullReport(Writer out, ReportProgress progress) throws IOException {
+        writeTeamTable(out, progress, null);
+        progress.sectionFinished("Full Team Report");
+    }
+
+    /**
+     * Write the heading and every team's full details, each team from one
+     * snapshot that is also given to stats when it is not null
+     */
+    private void writeTeamTable(Writer out, ReportProgress progress, ReportStatistics stats) throws IOException {
+        out.write(FULL_REPORT_HEADING);
+        streamTeams(progress, stats, snapshot -> {
+            out.write(snapshot.getFullDetails());
+            out.write("\n\n");
+        });
+        out.flush();
+    }
+
+    /**
+     * Receives each team's snapshot while the teams are streamed
+     */
+    public interface SnapshotWriter {
+        void write(Team.ScoreSnapshot snapshot) throws IOException;
+    }
+
+    /**
+     * Give the writer a snapshot of every team in list order and return the
+     * statistics of those same snapshots. Only the team references are
+     * copied, so the text is never held in memory however many teams there
+     * are, for exporters that write the teams straight out.
+     */
+    public ReportStatistics streamTeams(ReportProgress progress, SnapshotWriter writer) throws IOException {
+        ReportStatistics stats = new ReportStatistics(false, minScore, maxScore);
+        streamTeams(progress, stats, writer);
+        return stats;
+    }
+
+    /**
+     * The teams are taken from one copy of the list made under its lock, so
+     * a team added, removed or sorted meanwhile is neither skipped nor
+     * repeated; each team's scores are then read from its own snapshot.
+     */
+    private void streamTeams(ReportProgress progress, ReportStatistics stats, SnapshotWriter writer) throws IOException {
+        Team[] snapshotTeams = teamArray();
+        int written = 0;
+        for (Team team : snapshotTeams) {
+            if (progress.isCancelled()) {
+                throw new CancellationException("Report cancelled");
+            }
+            Team.ScoreSnapshot snapshot = team.snapshotScores();
+            if (stats != null) {
+                stats.accept(snapshot);
             }
+            writer.write(snapshot);
+            written++;
+            if ((written & (PROGRESS_INTERVAL - 1)) == 0) {
+                progress.teamsWritten(written, snapshotTeams.length);
+            }
+        }
+        progress.teamsWritten(written, written);
+    }
+
+    /**
+     * Full report rendered on all cores; the same text as generateFullReport
+     */
+    public String generateFullReportParallel() {
+        List<RenderChunk> chunks = renderTeamTable(ReportProgress.NONE);
+        int length = FULL_REPORT_HEADING.length();
+        List<StringBuilder> rendered = new ArrayList<>(chunks.size());
+        for (RenderChunk chunk : chunks) {
+            StringBuilder text = chunk.join();
+            rendered.add(text);
+            length += text.length();
+        }
+        StringBuilder report = new StringBuilder(length);
+        report.append(FULL_REPORT_HEADING);
+        for (StringBuilder text : rendered) {
+            report.append(text);
         }
+        return report.toString();
+    }
 
-        return frequency;
+    /**
+     * Write the full report rendered on all cores, each chunk written as soon
+     * as it and the chunks before it are done
+     */
+    public void writeFullReportParallel(Writer out, ReportProgress progress) throws IOException {
+        List<RenderChunk> chunks = renderTeamTable(progress);
+        out.write(FULL_REPORT_HEADING);
+        int written = 0;
+        for (RenderChunk chunk : chunks) {
+            StringBuilder text = chunk.join();
+            if (progress.isCancelled()) {
+                throw new CancellationException("Report cancelled");
+            }
+            out.append(text);
+            written += chunk.teams.size();
+            progress.teamsWritten(written, getTotalTeams());
+        }
+        out.flush();
+        progress.sectionFinished("Full Team Report");
     }
 
     /**
-     * Get summary statistics as a formatted string
+     * Split a copy of the team list into chunks and start rendering each on
+     * the common fork-join pool; the tasks are returned in list order
      */
-    public String getSummaryStatistics() {
-        StringBuilder stats = new StringBuilder();
-        stats.append("=== SUMMARY STATISTICS ===\n");
-        stats.append("Total Teams: ").append(getTotalTeams()).append("\n");
-        stats.append("Average Overall Score: ").append(getAverageOverallScore()).append("\n");
-        stats.append("Highest Overall Score: ").append(getMaxOverallScore()).append("\n");
-        stats.append("Lowest Overall Score: ").append(getMinOverallScore()).append("\n");
+    private List<RenderChunk> renderTeamTable(ReportProgress progress) {
+        List<Team> snapshot = getAllTeams();
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        // A few chunks per worker evens out teams with longer names or more scores
+        int chunkSize = Math.max(MIN_RENDER_CHUNK, -Math.floorDiv(-snapshot.size(), pool.getParallelism() * 4));
 
-        // Additional statistics
-        int totalScores = 0;
-        for (Team team : teams) {
-            totalScores += team.getScoreArray().length;
+        List<RenderChunk> chunks = new ArrayList<>();
+        for (int start = 0; start < snapshot.size(); start += chunkSize) {
+            RenderChunk chunk = new RenderChunk(snapshot.subList(start, Math.min(snapshot.size(), start + chunkSize)), progress);
+            pool.execute(chunk);
+            chunks.add(chunk);
         }
-        stats.append("Total Individual Scores: ").append(totalScores).append("\n");
+        return chunks;
+    }
 
-        // Display highest and lowest scoring teams
-        Team highest = getHighestScoringTeam();
-        Team lowest = getLowestScoringTeam();
+    /**
+     * Renders the full details of a run of teams into its own buffer
+     */
+    private static final class RenderChunk extends RecursiveTask<StringBuilder> {
+        private static final long serialVersionUID = 1L;
 
-        if (highest != null) {
-            stats.append("\nHighest Scoring Team: ").append(highest.getShortDetails()).append("\n");
+        private final List<Team> teams;
+        private final ReportProgress progress;
+
+        RenderChunk(List<Team> teams, ReportProgress progress) {
+            this.teams = teams;
+            this.progress = progress;
         }
 
-        if (lowest != null) {
-            stats.append("Lowest Scoring Team: ").append(lowest.getShortDetails()).append("\n");
+        @Override
+        protected StringBuilder compute() {
+            StringBuilder text = new StringBuilder(teams.size() * 160);
+            for (Team team : teams) {
+                if (progress.isCancelled()) {
+                    break;
+                }
+                team.snapshotScores().appendFullDetails(text);
+                text.append("\n\n");
+            }
+            return text;
         }
+    }
+
+    /**
+     * The teams in list order as of one moment
+     */
+    private synchronized Team[] teamArray() {
+        return teams.toArray(new Team[0]);
+    }
+
+    /**
+     * Get the team with the highest overall score (first in list order on ties)
+     */
+    public synchronized Team getHighestScoringTeam() {
+        ensureRanked();
+        return scoreIndex.highest();
+    }
+
+    /**
+     * Get the team with the lowest overall score (first in list order on ties)
+     */
+    public synchronized Team getLowestScoringTeam() {
+        ensureRanked();
+        return scoreIndex.lowest();
+    }
 
+    /**
+     * Calculate average overall score across all teams
+     */
+    public synchronized double getAverageOverallScore() {
+        ensureRanked();
+        return statistics.getAverageOverallScore();
+    }
+
+    /**
+     * Get minimum overall score across all teams
+     */
+    public synchronized double getMinOverallScore() {
+        ensureRanked();
+        Team lowest = scoreIndex.lowest();
+        return lowest == null ? 0 : lowest.getOverallScore();
+    }
+
+    /**
+     * Get maximum overall score across all teams
+     */
+    public synchronized double getMaxOverallScore() {
+        ensureRanked();
+        Team highest = scoreIndex.highest();
+        return highest == null ? 0 : highest.getOverallScore();
+    }
+
+    /**
+     * Generate frequency report of individual scores (1-5)
+     * Counts how many times each score appears across all teams and all criteria,
+     * copied from the score store's running counts
+     */
+    public ScoreHistogram getScoreFrequency() {
+        return scoreStore.getScoreFrequency();
+    }
+
+    /**
+     * Get summary statistics as a formatted string
+     */
+    public synchronized String getSummaryStatistics() {
+        StringBuilder stats = new StringBuilder();
+        Team highest = getHighestScoringTeam();
+        Team lowest = getLowestScoringTeam();
+        appendSummaryStatistics(stats, getTotalTeams(), getAverageOverallScore(), getMaxOverallScore(),
+                getMinOverallScore(), scoreStore.getScoreCount(),
+                highest == null ? null : highest.getShortDetails(),
+                lowest == null ? null : lowest.getShortDetails());
         return stats.toString();
     }
 
@@ -250,59 +812,215 @@ public class TeamList {
      * Generate complete final report with all required components
      */
     public String generateFinalReport() {
-        StringBuilder report = new StringBuilder();
+        StringWriter report = new StringWriter();
+        try {
+            writeFinalReport(report);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e); // StringWriter does not throw
+        }
+        return report.toString();
+    }
+
+    /**
+     * Write the final report section by section as it is produced. Each team is
+     * snapshotted once, written to the full-details table and folded into the
+     * statistics, so only a fixed amount of report state is held however many
+     * teams there are, and every section agrees with the table.
+     */
+    public void writeFinalReport(Writer out) throws IOException {
+        writeFinalReport(out, ReportProgress.NONE);
+    }
+
+    /**
+     * Write the final report, reporting progress after each section and
+     * stopping with a CancellationException if the progress is cancelled
+     */
+    public void writeFinalReport(Writer out, ReportProgress progress) throws IOException {
+        ReportStatistics stats = new ReportStatistics(false, minScore, maxScore);
 
         // 1. Table of teams with full details
-        report.append(generateFullReport()).append("\n");
+        writeTeamTable(out, progress, stats);
+        out.write("\n");
+        out.flush();
+        progress.sectionFinished("Full Team Report");
 
         // 2. Team with highest overall score
-        Team highest = getHighestScoringTeam();
+        Team.ScoreSnapshot highest = stats.getHighest();
         if (highest != null) {
-            report.append("=== HIGHEST SCORING TEAM ===\n");
-            report.append(highest.getFullDetails()).append("\n\n");
+            out.write("=== HIGHEST SCORING TEAM ===\n");
+            out.write(highest.getFullDetails());
+            out.write("\n\n");
+            out.flush();
+            progress.sectionFinished("Highest Scoring Team");
         }
 
         // 3. Summary statistics
-        report.append(getSummaryStatistics()).append("\n");
+        Team.ScoreSnapshot lowest = stats.getLowest();
+        StringBuilder summary = new StringBuilder();
+        appendSummaryStatistics(summary, stats.getTeamCount(), stats.getAverageOverallScore(),
+                stats.getMaxOverallScore(), stats.getMinOverallScore(), stats.getIndividualScoreCount(),
+                highest == null ? null : highest.getShortDetails(),
+                lowest == null ? null : lowest.getShortDetails());
+        summary.append("\n");
+        out.write(summary.toString());
+        out.flush();
+        progress.sectionFinished("Summary Statistics");
 
         // 4. Frequency report
-        report.append("=== SCORE FREQUENCY REPORT ===\n");
-        Map<Integer, Integer> frequency = getScoreFrequency();
-        report.append("Score | Frequency\n");
-        report.append("------|----------\n");
-        for (Map.Entry<Integer, Integer> entry : frequency.entrySet()) {
-            report.append(entry.getKey()).append("     | ").append(entry.getValue()).append("\n");
+        out.write("=== SCORE FREQUENCY REPORT ===\n");
+        out.write("Score | Frequency\n");
+        out.write("------|----------\n");
+        for (int score = minScore; score <= maxScore; score++) {
+            out.write(score + "     | " + stats.getFrequency(score) + "\n");
+        }
+        out.flush();
+        progress.sectionFinished("Score Frequency");
+    }
+
+    /**
+     * Statistics beyond the summary: median, standard deviation and a
+     * per-category breakdown, all from one pass over the teams
+     */
+    public String getDetailedStatistics() {
+        ReportStatistics stats = ReportStatistics.compute(Arrays.asList(teamArray()), minScore, maxScore);
+        StringBuilder report = new StringBuilder();
+        report.append("=== DETAILED STATISTICS ===\n");
+        report.append("Total Teams: ").append(stats.getTeamCount()).append("\n");
+        report.append("Average Overall Score: ").append(stats.getAverageOverallScore()).append("\n");
+        report.append("Median Overall Score: ").append(stats.getMedianOverallScore()).append("\n");
+        report.append(String.format("Standard Deviation: %.2f%n", stats.getStandardDeviation()));
+        report.append("Highest Overall Score: ").append(stats.getMaxOverallScore()).append("\n");
+        report.append("Lowest Overall Score: ").append(stats.getMinOverallScore()).append("\n");
+        report.append("Total Individual Scores: ").append(stats.getIndividualScoreCount()).append("\n");
+
+        report.append("\n=== CATEGORY BREAKDOWN ===\n");
+        report.append(String.format("%-25s | %5s | %7s | %7s | %7s%n", "Category", "Teams", "Average", "Lowest", "Highest"));
+        for (ReportStatistics.CategoryBreakdown breakdown : stats.getCategoryBreakdowns()) {
+            report.append(String.format("%-25s | %5d | %7.1f | %7.1f | %7.1f%n",
+                    breakdown.getCategory().getCategoryName(), breakdown.getTeamCount(),
+                    breakdown.getAverageOverallScore(), breakdown.getMinOverallScore(),
+                    breakdown.getMaxOverallScore()));
         }
+        return report.toString();
+    }
 
+    /**
+     * Teams ranked by judge-normalized score, i.e. each judge's scores measured
+     * against that judge's own mean and spread, so harsh and lenient judges
+     * count equally. Teams no judge has scored are listed after the ranking.
+     */
+    public String getJudgeNormalizedRanking() {
+        List<Team> scored = new ArrayList<>();
+        List<Team> unscored = new ArrayList<>();
+        Map<Team, Double> normalized = new HashMap<>();
+        // Work from a copy: the judges' matrices are locked before the list
+        // when scores are submitted, so they must not be read under its lock
+        for (Team team : getAllTeams()) {
+            JudgeScoreMatrix judgeScores = team.getJudgeScores();
+            if (judgeScores != null && judgeScores.getJudgeCount() > 0) {
+                normalized.put(team, judgeScores.getNormalizedScore());
+                scored.add(team);
+            } else {
+                unscored.add(team);
+            }
+        }
+        scored.sort((t1, t2) -> Double.compare(normalized.get(t2), normalized.get(t1)));
+
+        StringBuilder report = new StringBuilder();
+        report.append("=== JUDGE-NORMALIZED RANKING ===\n");
+        report.append(String.format("%-4s | %-6s | %-25s | %6s | %7s | %7s%n",
+                "Rank", "TID", "Team", "Judges", "Z-Score", "Overall"));
+        int rank = 1;
+        for (Team team : scored) {
+            report.append(String.format("%-4d | %-6d | %-25s | %6d | %7.2f | %7.1f%n",
+                    rank++, team.getTeamNumber(), team.getTeamName(),
+                    team.getJudgeScores().getJudgeCount(), normalized.get(team), team.getOverallScore()));
+        }
+        if (!unscored.isEmpty()) {
+            report.append("\nNot yet scored by any judge:\n");
+            for (Team team : unscored) {
+                report.append(team.getShortDetails()).append("\n");
+            }
+        }
         return report.toString();
     }
 
+    private static void appendSummaryStatistics(StringBuilder stats, int totalTeams, double average,
+                                                double highestScore, double lowestScore, long totalScores,
+                                                String highestTeam, String lowestTeam) {
+        stats.append("=== SUMMARY STATISTICS ===\n");
+        stats.append("Total Teams: ").append(totalTeams).append("\n");
+        stats.append("Average Overall Score: ").append(average).append("\n");
+        stats.append("Highest Overall Score: ").append(highestScore).append("\n");
+        stats.append("Lowest Overall Score: ").append(lowestScore).append("\n");
+
+        // Additional statistics
+        stats.append("Total Individual Scores: ").append(totalScores).append("\n");
+
+        // Display highest and lowest scoring teams
+        if (highestTeam != null) {
+            stats.append("\nHighest Scoring Team: ").append(highestTeam).append("\n");
+        }
+
+        if (lowestTeam != null) {
+            stats.append("Lowest Scoring Team: ").append(lowestTeam).append("\n");
+        }
+    }
+
     /**
      * Write report to text file
      */
     public void writeReportToFile(String filename) {
-        try (PrintWriter writer = new PrintWriter(new FileWriter(filename))) {
-            writer.print(generateFinalReport());
+        try {
+            writeReportToFile(filename, ReportProgress.NONE);
             System.out.println("Report successfully written to: " + filename);
         } catch (IOException e) {
             System.err.println("Error writing report to file: " + e.getMessage());
         }
     }
+
+    /**
+     * Export the teams, statistics and score frequencies to the file in the
+     * exporter's format, UTF-8 encoded and forced to disk like the reports
+     */
+    public void exportToFile(String filename, TeamExporter exporter, ReportProgress progress) throws IOException {
+        ReportFileWriter.write(filename, StandardCharsets.UTF_8, out -> exporter.export(this, out, progress));
+    }
+
+    /**
+     * Write the final report to the file and force it to disk, replacing the
+     * file only once the whole report is written
+     */
+    public void writeReportToFile(String filename, ReportProgress progress) throws IOException {
+        ReportFileWriter.write(filename, out -> writeFinalReport(out, progress));
+    }
     
-    public void sortByScore() {
+    public synchronized void sortByScore() {
         teams.sort((t1, t2) -> Double.compare(t2.getOverallScore(), t1.getOverallScore()));
+        rebuildBuckets();
+        scoreIndex.reorder(teams);
+        modified();
     }
 
-    public void sortByName() {
+    public synchronized void sortByName() {
         teams.sort((t1, t2) -> t1.getTeamName().compareToIgnoreCase(t2.getTeamName()));
+        rebuildBuckets();
+        scoreIndex.reorder(teams);
+        modified();
     }
 
-    public void sortByCategory() {
+    public synchronized void sortByCategory() {
         teams.sort((t1, t2) -> t1.getCategory().getCategoryName()
                 .compareToIgnoreCase(t2.getCategory().getCategoryName()));
+        rebuildBuckets();
+        scoreIndex.reorder(teams);
+        modified();
     }
 
-    public void sortByTeamNumber() {
+    public synchronized void sortByTeamNumber() {
         teams.sort((t1, t2) -> Integer.compare(t1.getTeamNumber(), t2.getTeamNumber()));
+        rebuildBuckets();
+        scoreIndex.reorder(teams);
+        modified();
     }
 }
\ No newline at end of file
@@ -82,7 +82,7 @@ public class TeamManagementPanel extends JPanel {
         add(actionPanel, BorderLayout.SOUTH);
     }
 
-    private void refreshTeamTable() {
+    void refreshTeamTable() {
         tableModel.setRowCount(0); // Clear table
 
         ArrayList<Team> teams = controller.getAllTeams();
@@ -188,8 +188,7 @@ public class TeamManagementPanel extends JPanel {
                 );
 
                 if (result == JOptionPane.OK_OPTION) {
-                    team.setTeamName(nameField.getText());
-                    team.setUniversity(uniField.getText());
+                    controller.updateTeamDetails(teamID, nameField.getText(), uniField.getText());
                     refreshTeamTable();
                     JOptionPane.showMessageDialog(this, "Team details updated!");
                 }
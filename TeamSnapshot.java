@@ -0,0 +1,319 @@
+import java.io.*;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.*;
+import java.time.LocalDate;
+import java.util.*;
+import java.util.function.Consumer;
+
+/**
+ * TeamSnapshot - compact binary image of a TeamList for fast startup
+ *
+ * Layout (big-endian):
+ *   header:     magic "HKTS", version, source CSV length, team count
+ *   dictionary: string count, then each string as varint length + UTF-8 bytes
+ *   teams:      number, type, dictionary indexes for text fields, leader,
+ *               members, then scores bit-packed 3 bits each (or raw ints
+ *               when a score falls outside 0-7)
+ */
+public class TeamSnapshot {
+    static final int MAGIC = 0x484B5453; // "HKTS"
+    static final short VERSION = 2;
+
+    private static final byte TYPE_WEB = 0;
+    private static final byte TYPE_AI = 1;
+
+    private static final byte SCORES_PACKED = 0;
+    private static final byte SCORES_RAW = 1;
+
+    /**
+     * Snapshot file kept next to the given CSV file
+     */
+    public static Path snapshotPathFor(String csvFilename) {
+        return Paths.get(csvFilename + ".snap");
+    }
+
+    /**
+     * True if a snapshot exists, is newer than the CSV and was taken from a CSV of the same length
+     */
+    public static boolean isFresh(Path snapshot, Path csv) {
+        try {
+            if (!Files.exists(snapshot) || !Files.exists(csv)) {
+                return false;
+            }
+            if (Files.getLastModifiedTime(snapshot).compareTo(Files.getLastModifiedTime(csv)) <= 0) {
+                return false;
+            }
+            return readSourceLength(snapshot) == Files.size(csv);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    /**
+     * Write the teams to the snapshot file. The file is written beside the
+     * target and renamed into place so readers never see a partial snapshot.
+     */
+    public static void write(List<Team> teams, long sourceLength, Path snapshot) throws IOException {
+        // Pass 1: build the string dictionary
+        Map<String, Integer> dictionary = new LinkedHashMap<>();
+        for (Team team : teams) {
+            intern(dictionary, team.getTeamName());
+            intern(dictionary, team.getUniversity());
+            intern(dictionary, team.getCategory().getCategoryName());
+            internCompetitor(dictionary, team.getTeamLeader());
+            for (Competitor member : membersOf(team)) {
+                internCompetitor(dictionary, member);
+            }
+        }
+
+        Path temp = snapshot.resolveSibling(snapshot.getFileName() + ".tmp");
+        try (DataOutputStream out = new DataOutputStream(
+                new BufferedOutputStream(Files.newOutputStream(temp), 1 << 16))) {
+            out.writeInt(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(sourceLength);
+            out.writeInt(teams.size());
+
+            out.writeInt(dictionary.size());
+            for (String value : dictionary.keySet()) {
+                byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+                writeVarInt(out, bytes.length);
+                out.write(bytes);
+            }
+
+            // Pass 2: the teams themselves
+            for (Team team : teams) {
+                out.writeInt(team.getTeamNumber());
+                out.writeByte(team instanceof AITeam ? TYPE_AI : TYPE_WEB);
+                writeVarInt(out, index(dictionary, team.getTeamName()));
+                writeVarInt(out, index(dictionary, team.getUniversity()));
+                writeVarInt(out, index(dictionary, team.getCategory().getCategoryName()));
+
+                writeCompetitor(out, dictionary, team.getTeamLeader());
+                Competitor[] members = membersOf(team);
+                writeVarInt(out, members.length);
+                for (Competitor member : members) {
+                    writeCompetitor(out, dictionary, member);
+                }
+
+                writeScores(out, team.getScoreArray());
+            }
+        }
+        Files.move(temp, snapshot, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+    }
+
+    /**
+     * Read every team from the snapshot and pass them to the sink in their saved order.
+     * Returns the number of teams read.
+     */
+    public static int read(Path snapshot, StringPool pool, Consumer<Team> sink) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            MappedByteBuffer in = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+            readHeader(in);
+            in.getLong(); // source length, checked by isFresh
+            int teamCount = in.getInt();
+
+            String[] dictionary = new String[in.getInt()];
+            byte[] scratch = new byte[256];
+            for (int i = 0; i < dictionary.length; i++) {
+                int length = readVarInt(in);
+                if (length > scratch.length) {
+                    scratch = new byte[length];
+                }
+                in.get(scratch, 0, length);
+                dictionary[i] = new String(scratch, 0, length, StandardCharsets.UTF_8);
+            }
+
+            for (int t = 0; t < teamCount; t++) {
+                int teamNumber = in.getInt();
+                byte type = in.get();
+                String teamName = lookup(dictionary, readVarInt(in));
+                String university = pool.intern(lookup(dictionary, readVarInt(in)));
+                Category category = CategoryRegistry.get(lookup(dictionary, readVarInt(in)));
+
+                Competitor leader = readCompetitor(in, dictionary);
+                Competitor[] members = new Competitor[readVarInt(in)];
+                for (int m = 0; m < members.length; m++) {
+                    members[m] = readCompetitor(in, dictionary);
+                }
+
+                int[] scores = readScores(in);
+
+                if (type == TYPE_AI) {
+                    sink.accept(new AITeam(teamNumber, teamName, university, category, leader, members, scores));
+                } else {
+                    sink.accept(new WebDevelopmentTeam(teamNumber, teamName, university, category, leader, members, scores));
+                }
+            }
+            return teamCount;
+        } catch (java.nio.BufferUnderflowException e) {
+            throw new IOException("Snapshot is truncated: " + snapshot);
+        }
+    }
+
+    private static long readSourceLength(Path snapshot) throws IOException {
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            ByteBuffer header = ByteBuffer.allocate(14);
+            if (channel.read(header, 0) < header.capacity()) {
+                throw new IOException("Snapshot header is truncated: " + snapshot);
+            }
+            header.flip();
+            readHeader(header);
+            return header.getLong();
+        }
+    }
+
+    private static void readHeader(ByteBuffer in) throws IOException {
+        if (in.getInt() != MAGIC) {
+            throw new IOException("Not a team snapshot file");
+        }
+        short version = in.getShort();
+        if (version != VERSION) {
+            throw new IOException("Unsupported snapshot version " + version);
+        }
+    }
+
+    private static Competitor[] membersOf(Team team) {
+        return team.getTeamMember() == null ? new Competitor[0] : team.getTeamMember();
+    }
+
+    // Dictionary helpers: index 0 is reserved for null
+
+    private static void intern(Map<String, Integer> dictionary, String value) {
+        if (value != null) {
+            dictionary.putIfAbsent(value, dictionary.size());
+        }
+    }
+
+    private static void internCompetitor(Map<String, Integer> dictionary, Competitor competitor) {
+        intern(dictionary, competitor.getName());
+        intern(dictionary, competitor.getEmail());
+    }
+
+    private static int index(Map<String, Integer> dictionary, String value) {
+        return value == null ? 0 : dictionary.get(value) + 1;
+    }
+
+    private static String lookup(String[] dictionary, int index) throws IOException {
+        if (index == 0) {
+            return null;
+        }
+        if (index > dictionary.length) {
+            throw new IOException("Snapshot string index out of range: " + index);
+        }
+        return dictionary[index - 1];
+    }
+
+    private static void writeCompetitor(DataOutputStream out, Map<String, Integer> dictionary, Competitor competitor)
+            throws IOException {
+        out.writeInt(competitor.getStudentID());
+        writeVarInt(out, index(dictionary, competitor.getName()));
+        writeVarInt(out, index(dictionary, competitor.getEmail()));
+        LocalDate dob = competitor.getDateOfBirth();
+        out.writeBoolean(dob != null);
+        if (dob != null) {
+            out.writeLong(dob.toEpochDay());
+        }
+        out.writeBoolean(competitor.isLeader());
+    }
+
+    private static Competitor readCompetitor(ByteBuffer in, String[] dictionary) throws IOException {
+        int studentID = in.getInt();
+        String name = lookup(dictionary, readVarInt(in));
+        String email = lookup(dictionary, readVarInt(in));
+        LocalDate dob = in.get() != 0 ? LocalDate.ofEpochDay(in.getLong()) : null;
+        boolean isLeader = in.get() != 0;
+        return new Competitor(studentID, name, email, dob, isLeader);
+    }
+
+    /**
+     * Scores are 1-5 in practice, so three bits each is enough. Any score
+     * outside 0-7 switches the team to plain ints.
+     */
+    private static void writeScores(DataOutputStream out, int[] scores) throws IOException {
+        writeVarInt(out, scores.length);
+        boolean packable = true;
+        for (int score : scores) {
+            if (score < 0 || score > 7) {
+                packable = false;
+                break;
+            }
+        }
+
+        if (!packable) {
+            out.writeByte(SCORES_RAW);
+            for (int score : scores) {
+                out.writeInt(score);
+            }
+            return;
+        }
+
+        out.writeByte(SCORES_PACKED);
+        int bits = 0;
+        int bitCount = 0;
+        for (int score : scores) {
+            bits |= score << bitCount;
+            bitCount += 3;
+            while (bitCount >= 8) {
+                out.writeByte(bits & 0xFF);
+                bits >>>= 8;
+                bitCount -= 8;
+            }
+        }
+        if (bitCount > 0) {
+            out.writeByte(bits & 0xFF);
+        }
+    }
+
+    private static int[] readScores(ByteBuffer in) throws IOException {
+        int[] scores = new int[readVarInt(in)];
+        byte encoding = in.get();
+        if (encoding == SCORES_RAW) {
+            for (int i = 0; i < scores.length; i++) {
+                scores[i] = in.getInt();
+            }
+            return scores;
+        }
+        if (encoding != SCORES_PACKED) {
+            throw new IOException("Unknown score encoding " + encoding);
+        }
+
+        int bits = 0;
+        int bitCount = 0;
+        for (int i = 0; i < scores.length; i++) {
+            if (bitCount < 3) {
+                bits |= (in.get() & 0xFF) << bitCount;
+                bitCount += 8;
+            }
+            scores[i] = bits & 0x7;
+            bits >>>= 3;
+            bitCount -= 3;
+        }
+        return scores;
+    }
+
+    // Unsigned LEB128 varints for lengths and dictionary indexes
+
+    static void writeVarInt(DataOutputStream out, int value) throws IOException {
+        while ((value & ~0x7F) != 0) {
+            out.writeByte((value & 0x7F) | 0x80);
+            value >>>= 7;
+        }
+        out.writeByte(value);
+    }
+
+    static int readVarInt(ByteBuffer in) throws IOException {
+        int value = 0;
+        for (int shift = 0; shift < 35; shift += 7) {
+            byte b = in.get();
+            value |= (b & 0x7F) << shift;
+            if (b >= 0) {
+                return value;
+            }
+        }
+        throw new IOException("Malformed varint in snapshot");
+    }
+}
@@ -0,0 +1,57 @@
+/**
+ * TeamStatistics - running aggregates over every team in a TeamList
+ * Adjusted on each add, remove and score change, so the summary figures
+ * can be read without walking the list. Overall scores are summed in tenths
+ * (they are rounded to one decimal place) to keep the running total exact.
+ * Individual score counts are not kept here: the list's ScoreStore keeps
+ * them as scores are stored, so a change never copies a team's scores.
+ */
+public class TeamStatistics {
+    public static final int MIN_SCORE = ScoreHistogram.DEFAULT_MIN_SCORE;
+    public static final int MAX_SCORE = ScoreHistogram.DEFAULT_MAX_SCORE;
+
+    private int teamCount;
+    private long overallTenthsSum;
+
+    /**
+     * Count a team whose overall score, in tenths, is the one it was indexed
+     * under; remove and scoresChanged take back exactly that value
+     */
+    public void add(int overallTenths) {
+        teamCount++;
+        overallTenthsSum += overallTenths;
+    }
+
+    public void remove(int overallTenths) {
+        teamCount--;
+        overallTenthsSum -= overallTenths;
+    }
+
+    /**
+     * Replace the contribution of a team's old overall score with its new one
+     */
+    public void scoresChanged(int oldTenths, int newTenths) {
+        overallTenthsSum += newTenths - oldTenths;
+    }
+
+    /**
+     * Replace the overall score total, e.g. after every team is re-ranked
+     * under new scoring rules
+     */
+    public void setOverallTenthsSum(long overallTenthsSum) {
+        this.overallTenthsSum = overallTenthsSum;
+    }
+
+    public int getTeamCount() {
+        return teamCount;
+    }
+
+    /**
+     * Average overall score rounded to one decimal place, or 0 with no teams
+     */
+    public double getAverageOverallScore() {
+        if (teamCount == 0) return 0;
+        // Round the exact mean in tenths half up, without floating-point drift
+        return Math.floorDiv(2 * overallTenthsSum + teamCount, 2L * teamCount) / 10.0;
+    }
+}
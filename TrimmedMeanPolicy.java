@@ -0,0 +1,28 @@
+/**
+ * TrimmedMeanPolicy - mean after dropping the highest and lowest scores
+ * Drops trimCount scores from each end, so one very harsh or very generous
+ * judge does not move the result. With too few scores to trim, all are averaged.
+ */
+public class TrimmedMeanPolicy implements ScoringPolicy {
+    private final int trimCount;
+
+    public TrimmedMeanPolicy(int trimCount) {
+        if (trimCount < 0) {
+            throw new IllegalArgumentException("Trim count must not be negative: " + trimCount);
+        }
+        this.trimCount = trimCount;
+    }
+
+    @Override
+    public double score(int[] data, int offset, int length) {
+        if (length <= 2 * trimCount) {
+            return ScoringKernel.simpleAverage(data, offset, length);
+        }
+        return ScoringKernel.sortedRangeAverage(data, offset, length, trimCount, length - trimCount);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Trimmed mean (" + trimCount + " each end)";
+    }
+}
@@ -8,12 +8,7 @@ public class WebDevelopmentTeam extends Team {
     }
 
     @Override
-    public double getOverallScore() {
-        if (scores == null || scores.length == 0) return 0;
-        double sum = 0;
-        for (int score : scores) {
-            sum += score;
-        }
-        return Math.round((sum / scores.length) * 10) / 10.0; // Simple average
+    protected ScoringPolicy getDefaultScoringPolicy() {
+        return ScoringPolicyRegistry.SIMPLE_AVERAGE;
     }
 }
\ No newline at end of file
@@ -0,0 +1,42 @@
+import java.util.Arrays;
+
+/**
+ * WeightedAveragePolicy - weighted mean of the scores, rounded to one decimal place
+ * Score i gets weights[i]; any score beyond the last weight gets weight 1.0.
+ * The weights are checked and their running totals precomputed once here,
+ * so scoring divides by a stored total instead of re-adding the weights.
+ */
+public class WeightedAveragePolicy implements ScoringPolicy {
+    private final double[] weights;
+    // totalWeights[n] = total of the first n weights, summed in index order
+    private final double[] totalWeights;
+
+    public WeightedAveragePolicy(double... weights) {
+        if (weights.length == 0) {
+            throw new IllegalArgumentException("At least one weight is required");
+        }
+        this.weights = weights.clone();
+        this.totalWeights = new double[weights.length + 1];
+        double total = 0;
+        for (int i = 0; i < weights.length; i++) {
+            if (!(weights[i] >= 0) || Double.isInfinite(weights[i])) {
+                throw new IllegalArgumentException("Invalid weight: " + weights[i]);
+            }
+            total += weights[i];
+            totalWeights[i + 1] = total;
+        }
+        if (total <= 0) {
+            throw new IllegalArgumentException("Weights must not all be zero");
+        }
+    }
+
+    @Override
+    public double score(int[] data, int offset, int length) {
+        return ScoringKernel.weightedAverage(data, offset, length, weights, totalWeights);
+    }
+
+    @Override
+    public String getDescription() {
+        return "Weighted average " + Arrays.toString(weights);
+    }
+}